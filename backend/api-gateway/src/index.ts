@@ -60,6 +60,8 @@ const createProxy = (target: string, pathRewrite?: any) =>
   createProxyMiddleware({
     target,
     changeOrigin: true,
+    // Append the client address to X-Forwarded-For; services trust it only from internal proxies
+    xfwd: true,
     pathRewrite,
     onError: (err, req, res) => {
       console.error(`Proxy error for ${target}:`, err.message);
@@ -0,0 +1,43 @@
+package com.studentcert.auth.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Creates the pg_trgm indexes behind the admin user search once Hibernate has created the
+ * users table. Expression indexes are outside what JPA can declare, so they live in
+ * db/user-search-indexes.sql. Other databases, or a role without rights to create the
+ * extension, keep working with sequential scans.
+ */
+@Component
+public class SearchIndexInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void run(String... args) throws Exception {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, "getDatabaseProductName");
+        if (!"PostgreSQL".equals(product)) {
+            logger.info("Skipping trigram search indexes on {}", product);
+            return;
+        }
+        try {
+            new ResourceDatabasePopulator(new ClassPathResource("db/user-search-indexes.sql")).execute(dataSource);
+        } catch (ScriptException e) {
+            logger.warn("Could not create trigram search indexes, user search will scan the table: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+}
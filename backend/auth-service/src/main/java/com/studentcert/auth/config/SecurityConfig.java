@@ -2,6 +2,7 @@ package com.studentcert.auth.config;
 
 import com.studentcert.auth.security.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -10,7 +11,9 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,6 +22,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -27,13 +32,28 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${app.revocations.api-key:}")
+    private String revocationsKey;
+
     public SecurityConfig(@Lazy JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
+    /**
+     * Hashes are prefixed with their algorithm id, so the algorithm or cost can change
+     * without invalidating stored passwords; outdated hashes are upgraded on next login
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.password.algorithm:bcrypt}") String algorithm,
+            @Value("${app.password.bcrypt-strength:12}") int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        // Hashes stored before ids were prefixed are plain BCrypt
+        passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+        return passwordEncoder;
     }
 
     @Bean
@@ -45,7 +65,13 @@ public class SecurityConfig {
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/auth/accept-invite").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/auth/revocations").permitAll()  // Polled by services that verify tokens locally; ServiceKeyFilter checks their key
+                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()  // Token verification keys
                 .requestMatchers(HttpMethod.GET, "/api/health").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")  // Metrics, e.g. user identity cache hit ratio
                 .requestMatchers(HttpMethod.GET, "/api/users/universities").permitAll()  // Public endpoint for university list
                 .requestMatchers(HttpMethod.GET, "/api/users/email/**").permitAll()  // For certificate service to fetch user by email
                 .requestMatchers(HttpMethod.GET, "/api/users/{id}").permitAll()  // For certificate service to fetch user by ID
@@ -54,6 +80,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/me").authenticated()
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(new ServiceKeyFilter(revocationsKey), UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
@@ -0,0 +1,43 @@
+package com.studentcert.auth.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Non-blocking client for university-service, backed by a bounded Reactor Netty pool
+     */
+    @Bean
+    public WebClient universityWebClient(
+            WebClient.Builder builder,
+            @Value("${university.service.url:http://localhost:3002}") String universityServiceUrl,
+            @Value("${university.service.max-connections:50}") int maxConnections,
+            @Value("${university.service.connect-timeout-ms:1000}") int connectTimeoutMs,
+            @Value("${university.service.read-timeout-ms:5000}") long readTimeoutMs) {
+
+        ConnectionProvider pool = ConnectionProvider.builder("university-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(readTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .baseUrl(universityServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
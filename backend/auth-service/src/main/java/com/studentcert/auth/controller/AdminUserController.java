@@ -1,18 +1,30 @@
 package com.studentcert.auth.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studentcert.auth.dto.ApiResponse;
+import com.studentcert.auth.dto.BulkVerifyRequest;
+import com.studentcert.auth.dto.CursorPageResponse;
 import com.studentcert.auth.dto.PaginatedResponse;
 import com.studentcert.auth.dto.UpdateUserRequest;
 import com.studentcert.auth.dto.UserDto;
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.service.AdminUserService;
+import com.studentcert.auth.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin/users")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -22,6 +34,12 @@ public class AdminUserController {
     @Autowired
     private AdminUserService adminUserService;
 
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping
     public ResponseEntity<PaginatedResponse<UserDto>> getUsers(
             @RequestParam(defaultValue = "0") int page,
@@ -45,6 +63,23 @@ public class AdminUserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Keyset pagination for infinite scroll and deep pages: no total count, and the cost does
+     * not grow with depth. Start without a cursor, then pass back nextCursor.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<UserDto>> scrollUsers(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) String cursor) {
+        try {
+            return ResponseEntity.ok(adminUserService.scrollUsers(size, search, role, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<UserDto>> getUserById(@PathVariable Long id) {
         UserDto user = adminUserService.getUserById(id);  
@@ -99,6 +134,23 @@ public class AdminUserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Verify or unverify several users at once; university-service receives the university
+     * changes among them as one batch
+     */
+    @PutMapping("/verify")
+    public ResponseEntity<ApiResponse<List<UserDto>>> setVerified(@Valid @RequestBody BulkVerifyRequest request) {
+        List<UserDto> users = adminUserService.setVerified(request.getUserIds(), request.getVerified());
+
+        ApiResponse<List<UserDto>> response = ApiResponse.<List<UserDto>>builder()
+                .success(true)
+                .message(request.getVerified() ? "Users verified successfully" : "Users unverified successfully")
+                .data(users)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/activate")
     public ResponseEntity<ApiResponse<UserDto>> activateUser(@PathVariable Long id) {
         UserDto user = adminUserService.activateUser(id);
@@ -124,4 +176,33 @@ public class AdminUserController {
         
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Bulk-create students from CSV (header row with email, full_name, university_uid, password)
+     * or NDJSON. Rows without a password get an invite token. Streams back one NDJSON result per row.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public void importUsers(
+            @RequestParam(required = false) String universityUid,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        UserImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? UserImportService.Format.NDJSON
+                : UserImportService.Format.CSV;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try {
+            userImportService.importStudents(request.getInputStream(), format, universityUid, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            // Only a bad CSV header gets here, before any result has been written
+            ApiResponse<Void> error = ApiResponse.<Void>builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build();
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), error);
+        }
+    }
 }
@@ -1,20 +1,38 @@
 package com.studentcert.auth.controller;
 
+import com.studentcert.auth.dto.AcceptInviteRequest;
 import com.studentcert.auth.dto.AuthResponse;
 import com.studentcert.auth.dto.LoginRequest;
+import com.studentcert.auth.dto.RefreshTokenRequest;
 import com.studentcert.auth.dto.RegisterRequest;
+import com.studentcert.auth.dto.TokenRevocationsResponse;
+import com.studentcert.auth.exception.PasswordHashingBusyException;
+import com.studentcert.auth.exception.RateLimitExceededException;
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.security.JwtAuthenticationFilter;
 import com.studentcert.auth.service.AuthService;
 import com.studentcert.auth.service.JwtService;
+import com.studentcert.auth.service.LoginAttemptLimiter;
+import com.studentcert.auth.service.RevokedTokenRegistry;
+import com.studentcert.auth.service.RevokedUserRegistry;
 import com.studentcert.auth.service.UidGenerationService;
+import com.studentcert.auth.service.UniversityListCache;
 import com.studentcert.auth.service.UniversityServiceClient;
 import com.studentcert.auth.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -36,10 +54,30 @@ public class AuthController {
     @Autowired
     private UniversityServiceClient universityServiceClient;
 
+    @Autowired
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @Autowired
+    private RevokedUserRegistry revokedUserRegistry;
+
+    @Autowired
+    private UniversityListCache universityListCache;
+
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
+
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest,
+                                              HttpServletRequest request) {
+        try {
+            // Refused attempts stop here, before the user lookup and the password hash
+            loginAttemptLimiter.acquire(clientAddress(request), loginRequest.getEmail());
+        } catch (RateLimitExceededException e) {
+            return tooManyAttempts(e);
+        }
         try {
             User user = authService.authenticate(loginRequest.getEmail(), loginRequest.getPassword());
+            loginAttemptLimiter.recordSuccess(loginRequest.getEmail());
             String token = jwtService.generateToken(user);
             
             AuthResponse response = AuthResponse.builder()
@@ -51,13 +89,18 @@ public class AuthController {
                     .fullName(user.getFullName())
                     .role(user.getRole().toString().toLowerCase())
                     .token(token)
+                    .refreshToken(jwtService.generateRefreshToken(user))
+                    .expiresAt(LocalDateTime.now().plusNanos(jwtService.getAccessTokenExpiration() * 1_000_000))
                     .uid(user.getUid())
                     .universityUid(user.getUniversityUid())
                     .build())
                 .build();
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (Exception e) {
+            loginAttemptLimiter.recordFailure(loginRequest.getEmail());
             AuthResponse errorResponse = AuthResponse.builder()
                 .success(false)
                 .message(e.getMessage())
@@ -67,7 +110,13 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest registerRequest) {
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest registerRequest,
+                                                 HttpServletRequest request) {
+        try {
+            loginAttemptLimiter.acquire(clientAddress(request), null);
+        } catch (RateLimitExceededException e) {
+            return tooManyAttempts(e);
+        }
         try {
             // Validate: Students MUST select a university UID
             if (registerRequest.getRole() == UserRole.STUDENT && 
@@ -112,12 +161,16 @@ public class AuthController {
                         registerRequest.getEmail(),
                         registerRequest.getUniversityAddress(),
                         registerRequest.getUniversityPhone()
-                    );
+                    ).block(); // registration needs the outcome; bounded by the client timeouts
                 } catch (Exception e) {
                     // If university service registration fails, rollback user creation
                     userService.deleteUser(user.getId());
-                    throw new RuntimeException("Failed to register university: " + e.getMessage());
+                    // University-service explains rejections (e.g. a taken name) in the response body
+                    String reason = e instanceof WebClientResponseException response
+                            ? response.getResponseBodyAsString() : e.getMessage();
+                    throw new RuntimeException("Failed to register university: " + reason);
                 }
+                universityListCache.refresh();
             }
             
             String token = jwtService.generateToken(user);
@@ -131,12 +184,16 @@ public class AuthController {
                     .fullName(user.getFullName())
                     .role(user.getRole().toString().toLowerCase())
                     .token(token)
+                    .refreshToken(jwtService.generateRefreshToken(user))
+                    .expiresAt(LocalDateTime.now().plusNanos(jwtService.getAccessTokenExpiration() * 1_000_000))
                     .uid(user.getUid())
                     .universityUid(user.getUniversityUid())
                     .build())
                 .build();
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
         } catch (Exception e) {
             AuthResponse errorResponse = AuthResponse.builder()
                 .success(false)
@@ -146,10 +203,115 @@ public class AuthController {
         }
     }
 
+    /**
+     * Choose a password for an account created by bulk import, using the invite token from the import report
+     */
+    @PostMapping("/accept-invite")
+    public ResponseEntity<AuthResponse> acceptInvite(@Valid @RequestBody AcceptInviteRequest inviteRequest) {
+        try {
+            User user = userService.acceptInvite(inviteRequest.getToken(), inviteRequest.getPassword());
+
+            AuthResponse response = AuthResponse.builder()
+                .success(true)
+                .message("Invite accepted. Your UID is: " + user.getUid())
+                .data(AuthResponse.UserData.builder()
+                    .id(user.getId().toString())
+                    .email(user.getEmail())
+                    .fullName(user.getFullName())
+                    .role(user.getRole().toString().toLowerCase())
+                    .token(jwtService.generateToken(user))
+                    .refreshToken(jwtService.generateRefreshToken(user))
+                    .expiresAt(LocalDateTime.now().plusNanos(jwtService.getAccessTokenExpiration() * 1_000_000))
+                    .uid(user.getUid())
+                    .universityUid(user.getUniversityUid())
+                    .build())
+                .build();
+
+            return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return busy(e);
+        } catch (Exception e) {
+            AuthResponse errorResponse = AuthResponse.builder()
+                .success(false)
+                .message(e.getMessage())
+                .build();
+            return ResponseEntity.status(400).body(errorResponse);
+        }
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshTokenRequest refreshRequest) {
+        try {
+            Claims claims = jwtService.extractAllClaims(refreshRequest.getRefreshToken());
+            if (!jwtService.isRefreshToken(claims)) {
+                throw new Exception("Invalid refresh token");
+            }
+
+            // Rotation: each refresh token is accepted once. Seeing one again means it was
+            // stolen or replayed, so every token issued to the user so far is revoked.
+            Long userId = ((Number) claims.get("userId")).longValue();
+            if (!revokedTokenRegistry.revokeRefreshToken(claims.getId(), claims.getExpiration().getTime() / 1000)) {
+                revokedUserRegistry.revoke(userId);
+                throw new Exception("Refresh token has already been used");
+            }
+            if (revokedUserRegistry.isRevoked(userId, jwtService.issuedAt(claims))) {
+                throw new Exception("Refresh token has been revoked");
+            }
+
+            User user = userService.findByEmail(claims.getSubject())
+                .filter(u -> u.getId().equals(userId))
+                .orElseThrow(() -> new Exception("User not found"));
+            if (!user.getIsActive()) {
+                throw new Exception("Account is disabled");
+            }
+
+            AuthResponse response = AuthResponse.builder()
+                .success(true)
+                .message("Token refreshed")
+                .data(AuthResponse.UserData.builder()
+                    .id(user.getId().toString())
+                    .email(user.getEmail())
+                    .fullName(user.getFullName())
+                    .role(user.getRole().toString().toLowerCase())
+                    .token(jwtService.generateToken(user))
+                    .refreshToken(jwtService.generateRefreshToken(user))
+                    .expiresAt(LocalDateTime.now().plusNanos(jwtService.getAccessTokenExpiration() * 1_000_000))
+                    .uid(user.getUid())
+                    .universityUid(user.getUniversityUid())
+                    .build())
+                .build();
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            AuthResponse errorResponse = AuthResponse.builder()
+                .success(false)
+                .message(e instanceof JwtException || e instanceof IllegalArgumentException
+                    ? "Invalid refresh token" : e.getMessage())
+                .build();
+            return ResponseEntity.status(401).body(errorResponse);
+        }
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<AuthResponse> logout(@AuthenticationPrincipal User user) {
-        // In a real implementation, you might blacklist the JWT token
-        // For now, we'll just return success since the frontend handles token removal
+    public ResponseEntity<AuthResponse> logout(
+            HttpServletRequest request,
+            @RequestBody(required = false) RefreshTokenRequest logoutRequest) {
+        // Revoke the presented access token, and the refresh token if the client sends it
+        if (request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            revokedTokenRegistry.revokeAccessToken(claims.getId(), claims.getExpiration().getTime() / 1000);
+        }
+        if (logoutRequest != null && logoutRequest.getRefreshToken() != null) {
+            try {
+                Claims refreshClaims = jwtService.extractAllClaims(logoutRequest.getRefreshToken());
+                if (jwtService.isRefreshToken(refreshClaims)) {
+                    revokedTokenRegistry.revokeRefreshToken(
+                        refreshClaims.getId(), refreshClaims.getExpiration().getTime() / 1000);
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                // Expired or malformed refresh tokens need no revocation
+            }
+        }
+
         AuthResponse response = AuthResponse.builder()
             .success(true)
             .message("Logout successful")
@@ -181,4 +343,42 @@ public class AuthController {
             return ResponseEntity.status(401).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Revoked access tokens and users, polled by services that verify tokens locally
+     */
+    @GetMapping("/revocations")
+    public ResponseEntity<TokenRevocationsResponse> getRevocations() {
+        return ResponseEntity.ok(TokenRevocationsResponse.builder()
+            .tokens(revokedTokenRegistry.accessTokens())
+            .users(revokedUserRegistry.revocations())
+            .build());
+    }
+
+    private ResponseEntity<AuthResponse> tooManyAttempts(RateLimitExceededException e) {
+        AuthResponse errorResponse = AuthResponse.builder()
+            .success(false)
+            .message(e.getMessage())
+            .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
+    // The client as resolved by Tomcat's RemoteIpValve (server.forward-headers-strategy: native): the
+    // gateway's X-Forwarded-For entry when the peer is a trusted proxy, otherwise the peer itself.
+    // The header is not read here, since a direct caller could send a new value with every attempt
+    private String clientAddress(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    private ResponseEntity<AuthResponse> busy(PasswordHashingBusyException e) {
+        AuthResponse errorResponse = AuthResponse.builder()
+            .success(false)
+            .message(e.getMessage())
+            .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+}
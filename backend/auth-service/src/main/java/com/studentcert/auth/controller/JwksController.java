@@ -0,0 +1,28 @@
+package com.studentcert.auth.controller;
+
+import com.studentcert.auth.service.JwtSigningKeys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+public class JwksController {
+
+    @Autowired
+    private JwtSigningKeys signingKeys;
+
+    /**
+     * Public keys for verifying access tokens locally; the next key is published ahead of use
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(signingKeys.jwks());
+    }
+}
@@ -1,23 +1,22 @@
 package com.studentcert.auth.controller;
 
 import com.studentcert.auth.dto.PaginatedResponse;
+import com.studentcert.auth.dto.UniversityInfo;
 import com.studentcert.auth.dto.UserDto;
-import com.studentcert.auth.model.User;
+import com.studentcert.auth.dto.UserInfoResponse;
 import com.studentcert.auth.model.UserRole;
-import com.studentcert.auth.repository.UserRepository;
 import com.studentcert.auth.service.AdminUserService;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.studentcert.auth.service.UniversityListCache;
+import com.studentcert.auth.service.UserIdentityCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
@@ -28,7 +27,10 @@ public class UserController {
     private AdminUserService adminUserService;
     
     @Autowired
-    private UserRepository userRepository;
+    private UserIdentityCache userIdentityCache;
+
+    @Autowired
+    private UniversityListCache universityListCache;
 
     /**
      * Get users by role - accessible by ADMIN and UNIVERSITY roles
@@ -61,89 +63,39 @@ public class UserController {
     /**
      * Get list of all universities (for student registration dropdown)
      * Public endpoint - no authentication required
+     * Served from memory; If-None-Match with the current ETag gets 304
      */
     @GetMapping("/universities")
     public ResponseEntity<List<UniversityInfo>> getUniversities() {
-        List<User> universities = userRepository.findAllByRole(UserRole.UNIVERSITY);
+        UniversityListCache.Snapshot snapshot = universityListCache.snapshot();
         
-        List<UniversityInfo> universityInfoList = universities.stream()
-                .filter(u -> u.getUid() != null) // Only universities with UIDs
-                .map(u -> UniversityInfo.builder()
-                        .uid(u.getUid())
-                        .name(u.getFullName())
-                        .email(u.getEmail())
-                        .build())
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(universityInfoList);
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic())
+                .body(snapshot.universities());
     }
     
     /**
      * Get user by email - for certificate service integration
+     * Served from the user identity cache
      */
     @GetMapping("/email/{email}")
     public ResponseEntity<UserInfoResponse> getUserByEmail(@PathVariable String email) {
-        User user = userRepository.findByEmail(email)
+        UserInfoResponse response = userIdentityCache.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
         
-        UserInfoResponse response = UserInfoResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .fullName(user.getFullName())
-                .role(user.getRole().name())
-                .uid(user.getUid())
-                .universityUid(user.getUniversityUid())
-                .build();
-        
         return ResponseEntity.ok(response);
     }
     
     /**
      * Get user by ID - for certificate service integration
+     * Served from the user identity cache
      */
     @GetMapping("/{userId}")
     public ResponseEntity<UserInfoResponse> getUserById(@PathVariable Long userId) {
-        User user = userRepository.findById(userId)
+        UserInfoResponse response = userIdentityCache.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
         
-        UserInfoResponse response = UserInfoResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .fullName(user.getFullName())
-                .role(user.getRole().name())
-                .uid(user.getUid())
-                .universityUid(user.getUniversityUid())
-                .build();
-        
         return ResponseEntity.ok(response);
     }
-    
-    /**
-     * DTO for user information response
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class UserInfoResponse {
-        private Long id;
-        private String email;
-        private String fullName;
-        private String role;
-        private String uid;
-        private String universityUid;
-    }
-    
-    /**
-     * DTO for university information
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class UniversityInfo {
-        private String uid;
-        private String name;
-        private String email;
-    }
 }
@@ -0,0 +1,25 @@
+package com.studentcert.auth.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVerifyRequest {
+
+    @NotEmpty(message = "User ids are required")
+    @Size(max = 500, message = "At most 500 users per request")
+    private List<Long> userIds;
+
+    @NotNull(message = "Verified flag is required")
+    private Boolean verified;
+}
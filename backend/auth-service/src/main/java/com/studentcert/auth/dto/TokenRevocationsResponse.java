@@ -0,0 +1,20 @@
+package com.studentcert.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Current revocations for services that verify access tokens locally
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationsResponse {
+    private Map<String, Long> tokens;  // Revoked access token jti -> expiry (epoch seconds)
+    private Map<Long, Long> users;  // userId -> revocation time (epoch milliseconds); tokens issued before it are rejected
+}
@@ -0,0 +1,19 @@
+package com.studentcert.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of the public university list shown on the registration page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversityInfo {
+    private String uid;
+    private String name;
+    private String email;
+}
@@ -0,0 +1,30 @@
+package com.studentcert.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a POST /api/universities/batch request to university-service
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UniversitySyncOperation {
+
+    public enum Action {
+        VERIFY,
+        UNVERIFY,
+        UPDATE,
+        DELETE
+    }
+
+    private String universityId;
+    private Action action;
+    private String universityName; // UPDATE only; null fields are left unchanged
+    private String email;
+}
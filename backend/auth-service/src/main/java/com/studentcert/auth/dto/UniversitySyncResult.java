@@ -0,0 +1,28 @@
+package com.studentcert.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * University-service's answer to one {@link UniversitySyncOperation}, in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversitySyncResult {
+
+    public enum Status {
+        APPLIED,
+        UNCHANGED, // already in the requested state
+        NOT_FOUND,
+        REJECTED
+    }
+
+    private String universityId;
+    private UniversitySyncOperation.Action action;
+    private Status status;
+    private String message;
+}
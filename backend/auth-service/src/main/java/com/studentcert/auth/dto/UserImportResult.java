@@ -0,0 +1,30 @@
+package com.studentcert.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the bulk import report, streamed as NDJSON in input order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    private long row; // 1-based data row, not counting a CSV header
+    private String email;
+    private Status status;
+    private String uid;
+    private String inviteToken; // Set when the row had no password; redeem at /api/auth/accept-invite
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.studentcert.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Slim user identity returned to other services (e.g. certificate-service during issuance)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserInfoResponse {
+    private Long id;
+    private String email;
+    private String fullName;
+    private String role;
+    private String uid;
+    private String universityUid;
+}
@@ -0,0 +1,18 @@
+package com.studentcert.auth.exception;
+
+/**
+ * Thrown when the password hashing pool is saturated; callers answer 503 with Retry-After
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
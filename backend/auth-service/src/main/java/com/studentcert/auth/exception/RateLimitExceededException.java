@@ -0,0 +1,18 @@
+package com.studentcert.auth.exception;
+
+/**
+ * Thrown when a client address or account has made too many attempts; callers answer 429 with Retry-After
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
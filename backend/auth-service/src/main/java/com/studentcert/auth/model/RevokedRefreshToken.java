@@ -0,0 +1,31 @@
+package com.studentcert.auth.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A refresh token (by jti) that was used or revoked, kept until the token would have expired
+ * anyway; expires_at is epoch seconds
+ */
+@Entity
+@Table(name = "revoked_refresh_tokens", indexes = {
+    @Index(name = "idx_revoked_refresh_tokens_expiry", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedRefreshToken {
+
+    @Id
+    @Column(name = "jti", length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
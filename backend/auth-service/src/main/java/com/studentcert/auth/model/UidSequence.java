@@ -0,0 +1,27 @@
+package com.studentcert.auth.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counter row for one UID prefix and year (e.g. STU-2025); next_value is the first unallocated sequence number
+ */
+@Entity
+@Table(name = "uid_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UidSequence {
+
+    @Id
+    @Column(name = "name", length = 20)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,72 @@
+package com.studentcert.auth.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row for a university change that still has to reach university-service. Written in the
+ * transaction that changes the user, deleted once delivered; rows that university-service rejects
+ * for good stay behind as FAILED.
+ */
+@Entity
+@Table(name = "university_sync_outbox", indexes = {
+    @Index(name = "idx_university_sync_due", columnList = "status, next_attempt_at, id"),
+    @Index(name = "idx_university_sync_university", columnList = "university_uid, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversitySyncEvent {
+
+    public enum Type {
+        VERIFIED,
+        UNVERIFIED,
+        UPDATED,
+        DELETED
+    }
+
+    public enum Status {
+        PENDING,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "university_uid", nullable = false, length = 50)
+    private String universityUid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Type type;
+
+    // New name and email for UPDATED
+    @Column(name = "university_name", length = 100)
+    private String universityName;
+
+    @Column(name = "email", length = 100)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -15,7 +15,10 @@ import java.util.Collections;
 
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_user_email", columnList = "email", unique = true)
+    @Index(name = "idx_user_email", columnList = "email", unique = true),
+    // Admin listing order (newest first, read backwards), with and without a role filter
+    @Index(name = "idx_user_created_at", columnList = "created_at, id"),
+    @Index(name = "idx_user_role_created_at", columnList = "role, created_at, id")
 })
 @Data
 @Builder
@@ -0,0 +1,21 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.RevokedRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, String> {
+
+    // Plain INSERT, so a jti already used on any instance fails on the key instead of being merged over
+    @Modifying
+    @Query(value = "INSERT INTO revoked_refresh_tokens (jti, expires_at) VALUES (:jti, :expiresAt)", nativeQuery = true)
+    void insert(@Param("jti") String jti, @Param("expiresAt") long expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM RevokedRefreshToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
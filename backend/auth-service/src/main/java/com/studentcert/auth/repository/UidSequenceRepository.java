@@ -0,0 +1,26 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.UidSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UidSequenceRepository extends JpaRepository<UidSequence, String> {
+
+    // Row-locking increment; concurrent instances serialize on the row, never on the users table
+    @Modifying
+    @Query("UPDATE UidSequence s SET s.nextValue = s.nextValue + :blockSize WHERE s.name = :name")
+    int advance(@Param("name") String name, @Param("blockSize") long blockSize);
+
+    // Scalar read, so it sees the advance even when the request's persistence context already holds the row
+    @Query("SELECT s.nextValue FROM UidSequence s WHERE s.name = :name")
+    long findNextValue(@Param("name") String name);
+
+    // Plain INSERT, so a row created concurrently by another instance fails on the key instead of being merged over
+    @Modifying
+    @Query(value = "INSERT INTO uid_sequences (name, next_value) VALUES (:name, :nextValue)", nativeQuery = true)
+    void create(@Param("name") String name, @Param("nextValue") long nextValue);
+}
@@ -0,0 +1,30 @@
+package com.studentcert.auth.repository;
+
+import com.studentcert.auth.model.UniversitySyncEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UniversitySyncEventRepository extends JpaRepository<UniversitySyncEvent, Long> {
+
+    // Oldest pending event of each university that is due; later events wait until it is delivered, so
+    // university-service sees each university's changes in order. Locked rows are skipped (SKIP LOCKED on
+    // PostgreSQL), so relays on several instances claim disjoint batches.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM UniversitySyncEvent e WHERE e.status = :pending AND e.nextAttemptAt <= :now "
+            + "AND NOT EXISTS (SELECT p.id FROM UniversitySyncEvent p WHERE p.universityUid = e.universityUid "
+            + "AND p.status = :pending AND p.id < e.id) ORDER BY e.id")
+    List<UniversitySyncEvent> findDeliverable(@Param("pending") UniversitySyncEvent.Status pending,
+                                              @Param("now") LocalDateTime now, Limit limit);
+}
@@ -2,17 +2,18 @@ package com.studentcert.auth.repository;
 
 import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     
     Optional<User> findByEmail(String email);
     
@@ -24,11 +25,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.passwordResetToken = :token")
     Optional<User> findByPasswordResetToken(@Param("token") String token);
     
-    // Pagination methods for admin
-    Page<User> findByEmailContainingIgnoreCaseAndRole(String email, UserRole role, Pageable pageable);
-    Page<User> findByEmailContainingIgnoreCase(String email, Pageable pageable);
-    Page<User> findByRole(UserRole role, Pageable pageable);
-    
+    // Public university list: only the columns it shows, in registration order
+    @Query("SELECT new com.studentcert.auth.dto.UniversityInfo(u.uid, u.fullName, u.email) FROM User u "
+            + "WHERE u.role = com.studentcert.auth.model.UserRole.UNIVERSITY AND u.uid IS NOT NULL ORDER BY u.id")
+    java.util.List<com.studentcert.auth.dto.UniversityInfo> findUniversityInfos();
+
     // Non-paginated method for fetching all users of a specific role
     @Query("SELECT u FROM User u WHERE u.role = :role")
     java.util.List<User> findAllByRole(@Param("role") UserRole role);
@@ -36,8 +37,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // UID-related methods
     boolean existsByUid(String uid);
     
-    @Query("SELECT COUNT(u) FROM User u WHERE u.uid LIKE :pattern")
-    long countByUidStartingWith(@Param("pattern") String pattern);
+    // Only read once per prefix and year, to seed its UID sequence from UIDs issued before it existed
+    @Query("SELECT u.uid FROM User u WHERE u.uid LIKE :pattern")
+    java.util.List<String> findUidsLike(@Param("pattern") String pattern);
     
     Optional<User> findByUid(String uid);
+
+    boolean existsByUidAndRole(String uid, UserRole role);
+
+    // Bulk import: which of a batch of emails are already registered
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    java.util.List<String> findExistingEmails(@Param("emails") java.util.Collection<String> emails);
+
+    // Compare-and-set so a background rehash never overwrites a password changed meanwhile
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false")
+    java.util.List<Long> findIdsByIsActiveFalse();
 }
\ No newline at end of file
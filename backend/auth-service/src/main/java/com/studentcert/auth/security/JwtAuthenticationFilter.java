@@ -1,12 +1,18 @@
 package com.studentcert.auth.security;
 
+import com.studentcert.auth.model.User;
 import com.studentcert.auth.service.JwtService;
+import com.studentcert.auth.service.RevokedTokenRegistry;
+import com.studentcert.auth.service.RevokedUserRegistry;
 import com.studentcert.auth.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,9 +27,24 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Request attribute holding the verified claims of the bearer token
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private RevokedUserRegistry revokedUserRegistry;
+
+    @Autowired
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    // Build the principal from token claims instead of loading the user on every request
+    @Value("${jwt.stateless:true}")
+    private boolean stateless;
+
     private final UserService userService;
 
     public JwtAuthenticationFilter(@Lazy UserService userService) {
@@ -41,6 +62,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         if (path.equals("/api/auth/login") || 
             path.equals("/api/auth/register") || 
+            path.equals("/api/auth/refresh") || 
+            path.equals("/api/auth/revocations") || 
+            path.equals("/.well-known/jwks.json") || 
             path.equals("/api/health")) {
             filterChain.doFilter(request, response);
             return;
@@ -48,6 +72,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final Claims claims;
         final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -56,14 +81,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // Verify once; every later check in this request reads these claims
+        try {
+            claims = jwtService.extractAllClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired, tampered, or signed with a key that is no longer published
+            filterChain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        userEmail = claims.getSubject();
 
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                UserDetails userDetails = userService.findByEmail(userEmail)
+                User principal = stateless ? jwtService.toPrincipal(claims) : null;
+                UserDetails userDetails = principal != null ? principal : userService.findByEmail(userEmail)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-                if (jwtService.isTokenValid(jwt, (com.studentcert.auth.model.User) userDetails)) {
+                if (jwtService.isTokenValid(claims, (User) userDetails)
+                        && !revokedTokenRegistry.isAccessTokenRevoked(claims.getId())
+                        && !revokedUserRegistry.isRevoked(((User) userDetails).getId(), jwtService.issuedAt(claims))) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -1,5 +1,6 @@
 package com.studentcert.auth.service;
 
+import com.studentcert.auth.dto.CursorPageResponse;
 import com.studentcert.auth.dto.UpdateUserRequest;
 import com.studentcert.auth.dto.UserDto;
 import com.studentcert.auth.model.User;
@@ -10,36 +11,125 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class AdminUserService {
 
+    // Ties on createdAt are broken by id, so keyset positions are unique
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
-    private UniversityServiceClient universityServiceClient;
+    private UniversitySyncOutbox universitySyncOutbox;
+
+    @Autowired
+    private RevokedUserRegistry revokedUserRegistry;
+
+    @Autowired
+    private UniversityListCache universityListCache;
+
+    @Autowired
+    private UserIdentityCache userIdentityCache;
 
     public Page<UserDto> getUsers(int page, int size, String search, UserRole role) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        
-        Page<User> userPage;
+        Pageable pageable = PageRequest.of(page, size, NEWEST_FIRST);
+        return userRepository.findAll(filter(search, role), pageable).map(this::convertToDto);
+    }
+
+    /**
+     * Keyset page after cursor (null for the first page), newest first. Costs the same at any
+     * depth and runs no count query.
+     */
+    public CursorPageResponse<UserDto> scrollUsers(int size, String search, UserRole role, String cursor) {
+        Specification<User> spec = filter(search, role);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(after(decodeCursor(cursor)));
+        }
+        // One extra row tells whether another page follows. Ordered in the specification, since
+        // FluentQuery.sortBy renders the ORDER BY twice
+        List<User> users = userRepository.findBy(spec.and(newestFirst()), query -> query.limit(size + 1).all());
+
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+        return CursorPageResponse.<UserDto>builder()
+                .content(page.stream().map(this::convertToDto).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    /**
+     * Case-insensitive substring match on email, name or UID; on PostgreSQL each lower(column)
+     * LIKE is served by a trigram index (db/user-search-indexes.sql)
+     */
+    private Specification<User> filter(String search, UserRole role) {
+        Specification<User> spec = Specification.where(null);
         if (search != null && !search.trim().isEmpty()) {
-            if (role != null) {
-                userPage = userRepository.findByEmailContainingIgnoreCaseAndRole(search, role, pageable);
-            } else {
-                userPage = userRepository.findByEmailContainingIgnoreCase(search, pageable);
-            }
-        } else if (role != null) {
-            userPage = userRepository.findByRole(role, pageable);
-        } else {
-            userPage = userRepository.findAll(pageable);
+            String pattern = "%" + escapeLike(search.trim().toLowerCase(Locale.ROOT)) + "%";
+            spec = spec.and((root, query, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("email")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("fullName")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("uid")), pattern, '\\')));
+        }
+        if (role != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("role"), role));
+        }
+        return spec;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record Cursor(LocalDateTime createdAt, long id) {
+    }
+
+    /**
+     * Rows strictly after the cursor in NEWEST_FIRST order
+     */
+    private static Specification<User> after(Cursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    private static Specification<User> newestFirst() {
+        return (root, query, cb) -> {
+            query.orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+            return null;
+        };
+    }
+
+    private static String encodeCursor(User last) {
+        String key = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            return new Cursor(LocalDateTime.parse(key[0]), Long.parseLong(key[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
         }
-        
-        return userPage.map(this::convertToDto);
     }
 
     public UserDto getUserById(Long id) {
@@ -48,11 +138,13 @@ public class AdminUserService {
         return convertToDto(user);
     }
 
+    @Transactional
     public UserDto updateUser(Long id, UpdateUserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
         boolean wasVerified = user.getIsVerified();
+        UserRole previousRole = user.getRole();
         
         if (request.getFullName() != null) {
             user.setFullName(request.getFullName());
@@ -72,53 +164,52 @@ public class AdminUserService {
         
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        evictAfterCommit(user);
+
+        // Outstanding tokens carry the old role and active state
+        if (!user.getIsActive() || user.getRole() != previousRole) {
+            revokedUserRegistry.revoke(user.getId());
+        }
+
+        if (user.getRole() == UserRole.UNIVERSITY || previousRole == UserRole.UNIVERSITY) {
+            refreshUniversitiesAfterCommit();
+        }
         
-        // Sync changes to university service for university users
+        // Queue changes for university service; delivered by UniversitySyncRelay once this commits
         if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
-            try {
-                // Sync verification status changes
-                if (!wasVerified && user.getIsVerified()) {
-                    // Changed from unverified to verified
-                    universityServiceClient.verifyUniversity(user.getUid());
-                } else if (wasVerified && !user.getIsVerified()) {
-                    // Changed from verified to unverified
-                    universityServiceClient.unverifyUniversity(user.getUid());
-                }
-                
-                // Sync name updates to university service
-                if (request.getFullName() != null) {
-                    universityServiceClient.updateUniversity(
-                        user.getUid(), 
-                        user.getFullName(), 
-                        user.getEmail(),
-                        null, // address not in User table
-                        null  // phone not in User table
-                    );
-                }
-            } catch (Exception e) {
-                System.err.println("Failed to sync changes to university service: " + e.getMessage());
+            if (!wasVerified && user.getIsVerified()) {
+                universitySyncOutbox.verified(user.getUid());
+            } else if (wasVerified && !user.getIsVerified()) {
+                universitySyncOutbox.unverified(user.getUid());
+            }
+            
+            if (request.getFullName() != null) {
+                universitySyncOutbox.updated(user.getUid(), user.getFullName(), user.getEmail());
             }
         }
         
         return convertToDto(user);
     }
 
+    @Transactional
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
-        // If this is a university user, also delete from university service
+        // If this is a university user, also delete it from university service
         if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
-            try {
-                universityServiceClient.deleteUniversity(user.getUid());
-            } catch (Exception e) {
-                System.err.println("Failed to delete university from university service: " + e.getMessage());
-            }
+            universitySyncOutbox.deleted(user.getUid());
         }
         
         userRepository.delete(user);
+        revokedUserRegistry.revoke(user.getId());
+        evictAfterCommit(user);
+        if (user.getRole() == UserRole.UNIVERSITY) {
+            refreshUniversitiesAfterCommit();
+        }
     }
 
+    @Transactional
     public UserDto verifyUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
@@ -126,20 +217,48 @@ public class AdminUserService {
         user.setIsVerified(true);
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        evictAfterCommit(user);
         
-        // If this is a university user, also verify in university service
+        // If this is a university user, also verify it in university service
         if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
-            try {
-                universityServiceClient.verifyUniversity(user.getUid());
-            } catch (Exception e) {
-                // Log error but don't fail the verification in auth service
-                System.err.println("Failed to sync verification to university service: " + e.getMessage());
-            }
+            universitySyncOutbox.verified(user.getUid());
         }
         
         return convertToDto(user);
     }
 
+    /**
+     * Set the verified flag on many users in one transaction; the university changes among them
+     * reach university-service together in one batch request
+     */
+    @Transactional
+    public List<UserDto> setVerified(List<Long> ids, boolean verified) {
+        List<User> users = userRepository.findAllById(ids);
+        if (users.size() != new HashSet<>(ids).size()) {
+            Set<Long> found = users.stream().map(User::getId).collect(Collectors.toSet());
+            List<Long> missing = ids.stream().filter(id -> !found.contains(id)).distinct().toList();
+            throw new RuntimeException("Users not found with ids: " + missing);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> changed = users.stream().filter(user -> user.getIsVerified() != verified).toList();
+        for (User user : changed) {
+            user.setIsVerified(verified);
+            user.setUpdatedAt(now);
+            evictAfterCommit(user);
+            if (user.getRole() == UserRole.UNIVERSITY && user.getUid() != null) {
+                if (verified) {
+                    universitySyncOutbox.verified(user.getUid());
+                } else {
+                    universitySyncOutbox.unverified(user.getUid());
+                }
+            }
+        }
+        userRepository.saveAll(changed);
+
+        return users.stream().map(this::convertToDto).toList();
+    }
+
     public UserDto activateUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
@@ -158,10 +277,30 @@ public class AdminUserService {
         user.setIsActive(false);
         user.setUpdatedAt(LocalDateTime.now());
         user = userRepository.save(user);
+        revokedUserRegistry.revoke(user.getId());
         
         return convertToDto(user);
     }
 
+    // Caches are reloaded only once the change is visible to other connections; evicting earlier
+    // lets a concurrent lookup cache the old row again
+    private void evictAfterCommit(User user) {
+        afterCommit(() -> userIdentityCache.evict(user));
+    }
+
+    private void refreshUniversitiesAfterCommit() {
+        afterCommit(universityListCache::refresh);
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private UserDto convertToDto(User user) {
         return UserDto.builder()
                 .id(user.getId())
@@ -4,7 +4,6 @@ import com.studentcert.auth.model.User;
 import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -16,7 +15,7 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     public User authenticate(String email, String password) throws Exception {
         Optional<User> userOptional = userRepository.findByEmail(email);
@@ -27,7 +26,7 @@ public class AuthService {
         
         User user = userOptional.get();
         
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             throw new Exception("Invalid email or password");
         }
         
@@ -38,6 +37,10 @@ public class AuthService {
         if (!user.getIsVerified()) {
             throw new Exception("Account is not verified");
         }
+
+        String storedHash = user.getPassword();
+        passwordHashingService.upgradeIfNeeded(password, storedHash,
+            rehashed -> userRepository.updatePasswordIfUnchanged(user.getId(), storedHash, rehashed));
         
         return user;
     }
@@ -1,10 +1,14 @@
 package com.studentcert.auth.service;
 
 import com.studentcert.auth.model.User;
+import com.studentcert.auth.model.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -12,17 +16,44 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
-    private String secretKey;
-
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
+    @Value("${app.jwt.expiration:900000}") // 15 minutes in milliseconds
     private Long jwtExpiration;
 
+    @Value("${app.jwt.refresh-expiration:604800000}") // 7 days in milliseconds
+    private Long refreshExpiration;
+
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+    // iat is whole seconds; revocation checks need the issue time to the millisecond
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
+    private final JwtSigningKeys signingKeys;
+
+    // Built once; the parser is immutable and thread-safe
+    private final JwtParser parser;
+
+    public JwtService(JwtSigningKeys signingKeys) {
+        this.signingKeys = signingKeys;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = signingKeys.find(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown token signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -40,49 +71,99 @@ public class JwtService {
         extraClaims.put("role", userDetails.getRole().name());
         extraClaims.put("userId", userDetails.getId());
         extraClaims.put("fullName", userDetails.getFullName());
+        extraClaims.put("uid", userDetails.getUid());
+        extraClaims.put("universityUid", userDetails.getUniversityUid());
         
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
+    /**
+     * Long-lived token that can only be exchanged for a new token pair at /api/auth/refresh
+     */
+    public String generateRefreshToken(User userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+        claims.put("userId", userDetails.getId());
+        return buildToken(claims, userDetails, refreshExpiration);
+    }
+
+    public long getAccessTokenExpiration() {
+        return jwtExpiration;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
     private String buildToken(
             Map<String, Object> extraClaims,
             User userDetails,
             long expiration
     ) {
+        JwtSigningKeys.SigningKey signingKey = signingKeys.active();
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
+                .setHeaderParam("kid", signingKey.keyId())
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setId(UUID.randomUUID().toString())
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, User userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Check already verified claims against the user, without parsing the token again
+     */
+    public boolean isTokenValid(Claims claims, User userDetails) {
+        final String username = claims.getSubject();
+        return (username.equals(userDetails.getUsername())) && !claims.getExpiration().before(new Date())
+                && !isRefreshToken(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * When the token was issued, to the millisecond; tokens without the claim fall back to the
+     * start of their iat second
+     */
+    public Date issuedAt(Claims claims) {
+        Object millis = claims.get(ISSUED_AT_MILLIS_CLAIM);
+        return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Rebuild the principal from verified claims, for stateless authentication; null if the
+     * token predates the claims this needs
+     */
+    public User toPrincipal(Claims claims) {
+        Object userId = claims.get("userId");
+        String role = claims.get("role", String.class);
+        if (!(userId instanceof Number) || role == null || claims.getSubject() == null) {
+            return null;
+        }
+        // Account state is not in the token; deactivation is enforced through the revoked user set
+        return User.builder()
+                .id(((Number) userId).longValue())
+                .email(claims.getSubject())
+                .fullName(claims.get("fullName", String.class))
+                .role(UserRole.valueOf(role))
+                .uid(claims.get("uid", String.class))
+                .universityUid(claims.get("universityUid", String.class))
+                .isActive(true)
+                .isVerified(true)
+                .build();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verify the token signature and expiry and return its claims
+     */
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
\ No newline at end of file
@@ -0,0 +1,238 @@
+package com.studentcert.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ES256 keys used to sign access and refresh tokens, and the JWKS that publishes them.
+ *
+ * Only auth-service holds a private key; other services verify against the published
+ * public keys, looked up by the token's kid. Besides the signing key, the JWKS carries
+ * every key a still-valid token may have been signed with and the key that will sign
+ * next, so verifiers already have a key before the first token using it arrives.
+ *
+ * With configured keys, roll over by adding the new public key to
+ * app.jwt.signing.additional-public-keys, then making it the signing key and moving the
+ * old public key there. Without configured keys the service only starts under a dev
+ * profile, with generated keys that are rotated in-process when
+ * app.jwt.signing.rotation-interval-ms is set; that only suits a single instance.
+ */
+@Service
+public class JwtSigningKeys {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtSigningKeys.class);
+
+    private static final Profiles DEV_PROFILES = Profiles.of("dev", "development");
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.jwt.signing.private-key:}")
+    private String configuredPrivateKey;
+
+    @Value("${app.jwt.signing.public-key:}")
+    private String configuredPublicKey;
+
+    @Value("${app.jwt.signing.additional-public-keys:}")
+    private String additionalPublicKeys;
+
+    @Value("${app.jwt.signing.rotation-interval-ms:0}")
+    private long rotationIntervalMs;
+
+    @Value("${app.jwt.refresh-expiration:604800000}")
+    private long refreshExpiration;
+
+    /**
+     * Key pair with its id; private key is null for publish-only keys
+     */
+    public record SigningKey(String keyId, PrivateKey privateKey, PublicKey publicKey, long retiredAt) {
+    }
+
+    private record KeySet(SigningKey active, SigningKey next, List<SigningKey> published, Map<String, Object> jwks) {
+    }
+
+    private volatile KeySet keySet;
+    private ScheduledExecutorService rotator;
+
+    @PostConstruct
+    public void init() {
+        try {
+            List<SigningKey> additional = new ArrayList<>();
+            for (String encoded : additionalPublicKeys.split(",")) {
+                if (!encoded.isBlank()) {
+                    additional.add(publishOnly(KeyFactory.getInstance("EC").generatePublic(
+                            new X509EncodedKeySpec(Base64.getDecoder().decode(encoded.trim())))));
+                }
+            }
+
+            if (!configuredPrivateKey.isBlank() && !configuredPublicKey.isBlank()) {
+                KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(configuredPublicKey)));
+                SigningKey active = new SigningKey(keyId(publicKey), keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getDecoder().decode(configuredPrivateKey))), publicKey, 0);
+                keySet = keySet(active, null, additional);
+                return;
+            }
+            if (!configuredPrivateKey.isBlank() || !configuredPublicKey.isBlank()) {
+                throw new IllegalStateException("app.jwt.signing.private-key and public-key must be set together");
+            }
+            if (!environment.acceptsProfiles(DEV_PROFILES)) {
+                // Every instance would sign with its own key, and every restart would log everyone out
+                throw new IllegalStateException("No JWT signing keys configured: set JWT_SIGNING_PRIVATE_KEY and "
+                        + "JWT_SIGNING_PUBLIC_KEY, or activate the dev profile to use a generated key");
+            }
+
+            logger.warn("No app.jwt.signing keys configured, generating an ephemeral signing key; "
+                    + "tokens issued now stop verifying after a restart");
+            keySet = keySet(generate(), rotationIntervalMs > 0 ? generate() : null, additional);
+            if (rotationIntervalMs > 0) {
+                rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "jwt-key-rotator");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                rotator.scheduleAtFixedRate(this::rotate, rotationIntervalMs, rotationIntervalMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialise JWT signing keys", e);
+        }
+    }
+
+    public SigningKey active() {
+        return keySet.active();
+    }
+
+    /**
+     * Public key for a kid, or null if it is not (or no longer) published
+     */
+    public PublicKey find(String keyId) {
+        if (keyId == null) {
+            return null;
+        }
+        for (SigningKey key : keySet.published()) {
+            if (key.keyId().equals(keyId)) {
+                return key.publicKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * JWKS document, rebuilt only when the key set changes
+     */
+    public Map<String, Object> jwks() {
+        return keySet.jwks();
+    }
+
+    /**
+     * Promote the pre-published next key, retire the active one, and publish a new next key
+     */
+    void rotate() {
+        try {
+            KeySet current = keySet;
+            long now = System.currentTimeMillis();
+            List<SigningKey> retained = new ArrayList<>();
+            for (SigningKey key : current.published()) {
+                boolean inUse = key == current.active() || key == current.next();
+                // Retired keys stay published until every token they signed has expired
+                if (!inUse && (key.retiredAt() == 0 || now - key.retiredAt() < refreshExpiration)) {
+                    retained.add(key);
+                }
+            }
+            SigningKey old = current.active();
+            retained.add(new SigningKey(old.keyId(), null, old.publicKey(), now));
+            keySet = keySet(current.next(), generate(), retained);
+            logger.info("Rotated JWT signing key {} -> {}", old.keyId(), current.next().keyId());
+        } catch (Exception e) {
+            logger.error("JWT signing key rotation failed, keeping key {}: {}", keySet.active().keyId(), e.getMessage());
+        }
+    }
+
+    private static KeySet keySet(SigningKey active, SigningKey next, List<SigningKey> others) {
+        List<SigningKey> published = new ArrayList<>();
+        published.add(active);
+        if (next != null) {
+            published.add(next);
+        }
+        published.addAll(others);
+
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (SigningKey key : published) {
+            ECPublicKey ec = (ECPublicKey) key.publicKey();
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("kid", key.keyId());
+            jwk.put("x", coordinate(ec.getW().getAffineX()));
+            jwk.put("y", coordinate(ec.getW().getAffineY()));
+            jwks.add(jwk);
+        }
+        return new KeySet(active, next, List.copyOf(published), Map.of("keys", List.copyOf(jwks)));
+    }
+
+    private static SigningKey generate() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair pair = generator.generateKeyPair();
+        return new SigningKey(keyId(pair.getPublic()), pair.getPrivate(), pair.getPublic(), 0);
+    }
+
+    private static SigningKey publishOnly(PublicKey publicKey) throws Exception {
+        return new SigningKey(keyId(publicKey), null, publicKey, 0);
+    }
+
+    private static String keyId(PublicKey publicKey) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded()), 0, 8);
+    }
+
+    /**
+     * Unsigned, fixed 32-byte big-endian, base64url without padding (RFC 7518 section 6.2.1)
+     */
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (rotator != null) {
+            rotator.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.studentcert.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.studentcert.auth.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sliding-window limits on login and registration, checked before any database query or
+ * password hash runs.
+ *
+ * Every login and registration attempt counts against the client address; failed logins also
+ * count against the email. Each key holds a fixed-size window: the counts of the current and
+ * previous fixed windows, with the previous one weighted by how much of it still overlaps the
+ * sliding window. A key that goes over its limit is locked out, and each further lockout
+ * doubles up to the maximum; a successful login clears the email's record.
+ *
+ * Windows live in a size-bounded Caffeine cache whose per-entry expiry (a timer wheel) drops
+ * a key once its windows are over and it has stayed quiet for a window after its last lockout,
+ * which also resets its lockout level. Updates go through the cache's per-key compute, so concurrent attempts on one key
+ * serialize without a global lock.
+ */
+@Service
+public class LoginAttemptLimiter {
+
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final long initialLockoutNanos;
+    private final long maxLockoutNanos;
+    private final Cache<String, SlidingWindow> windows;
+    private final Counter allowed;
+    private final Counter denied;
+
+    public LoginAttemptLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth-limit.enabled:true}") boolean enabled,
+            @Value("${app.auth-limit.ip-max-attempts:30}") int ipMaxAttempts,
+            @Value("${app.auth-limit.ip-window-seconds:60}") long ipWindowSeconds,
+            @Value("${app.auth-limit.email-max-failures:5}") int emailMaxFailures,
+            @Value("${app.auth-limit.email-window-seconds:900}") long emailWindowSeconds,
+            @Value("${app.auth-limit.initial-lockout-seconds:30}") long initialLockoutSeconds,
+            @Value("${app.auth-limit.max-lockout-seconds:3600}") long maxLockoutSeconds,
+            @Value("${app.auth-limit.max-keys:100000}") long maxKeys) {
+        this.enabled = enabled;
+        this.ipLimit = new Limit(ipMaxAttempts, TimeUnit.SECONDS.toNanos(ipWindowSeconds));
+        // Failures are counted after the fact, so the lockout has to start with the one that reaches the limit
+        this.emailLimit = new Limit(emailMaxFailures - 1, TimeUnit.SECONDS.toNanos(emailWindowSeconds));
+        this.initialLockoutNanos = TimeUnit.SECONDS.toNanos(initialLockoutSeconds);
+        this.maxLockoutNanos = TimeUnit.SECONDS.toNanos(maxLockoutSeconds);
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new Expiry<String, SlidingWindow>() {
+                    @Override
+                    public long expireAfterCreate(String key, SlidingWindow window, long currentTime) {
+                        return window.nanosUntilIdle(currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SlidingWindow window, long currentTime, long currentDuration) {
+                        return window.nanosUntilIdle(currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SlidingWindow window, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.allowed = Counter.builder("auth.attempt_limit.requests").tag("result", "allowed").register(meterRegistry);
+        this.denied = Counter.builder("auth.attempt_limit.requests").tag("result", "denied").register(meterRegistry);
+        Gauge.builder("auth.attempt_limit.keys", windows, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Attempts allowed per sliding window of the given length
+     */
+    record Limit(int maxAttempts, long windowNanos) {
+    }
+
+    /**
+     * Admit a login (with its email) or a registration (email null) from clientIp, or throw
+     * RateLimitExceededException. A locked email is refused without charging the address.
+     */
+    public void acquire(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        long waitNanos = 0;
+        if (email != null) {
+            SlidingWindow emailWindow = windows.getIfPresent(emailKey(email));
+            waitNanos = emailWindow == null ? 0 : emailWindow.lockedFor(now);
+        }
+        if (waitNanos == 0) {
+            waitNanos = record("ip:" + clientIp, ipLimit, now);
+        }
+        if (waitNanos > 0) {
+            denied.increment();
+            throw new RateLimitExceededException("Too many attempts, please retry later",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+        allowed.increment();
+    }
+
+    /**
+     * Count a failed login against the email; enough failures lock it out
+     */
+    public void recordFailure(String email) {
+        if (enabled && email != null) {
+            record(emailKey(email), emailLimit, System.nanoTime());
+        }
+    }
+
+    /**
+     * Forget the email's failures after a successful login
+     */
+    public void recordSuccess(String email) {
+        if (enabled && email != null) {
+            windows.invalidate(emailKey(email));
+        }
+    }
+
+    private long record(String key, Limit limit, long now) {
+        long[] waitNanos = new long[1];
+        // compute rather than get-then-mutate, so the entry's expiry is recalculated after the update
+        windows.asMap().compute(key, (k, window) -> {
+            SlidingWindow target = window != null ? window : new SlidingWindow(limit.windowNanos(), now);
+            waitNanos[0] = target.record(now, limit.maxAttempts(), initialLockoutNanos, maxLockoutNanos);
+            return target;
+        });
+        return waitNanos[0];
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counts for one key; constant size however many attempts it sees
+     */
+    static final class SlidingWindow {
+
+        private final long windowNanos;
+        private long windowStart;
+        private int previous;
+        private int current;
+        private int lockouts;
+        private long lockedUntil;
+
+        SlidingWindow(long windowNanos, long now) {
+            this.windowNanos = windowNanos;
+            this.windowStart = now;
+            this.lockedUntil = now;
+        }
+
+        synchronized long lockedFor(long now) {
+            return Math.max(0, lockedUntil - now);
+        }
+
+        /**
+         * Count one attempt; returns 0 if it is within the limit, otherwise how long the key is locked out
+         */
+        synchronized long record(long now, int maxAttempts, long initialLockoutNanos, long maxLockoutNanos) {
+            long locked = lockedFor(now);
+            if (locked > 0) {
+                return locked;
+            }
+            roll(now);
+            current++;
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowNanos;
+            if (previous * previousWeight + current <= maxAttempts) {
+                return 0;
+            }
+            lockouts++;
+            long lockout = Math.min(maxLockoutNanos, initialLockoutNanos << Math.min(lockouts - 1, 30));
+            lockedUntil = now + lockout;
+            return lockout;
+        }
+
+        /**
+         * Time until the key can be forgotten: both windows are over, and a window has passed
+         * since the last lockout ended without a new one
+         */
+        synchronized long nanosUntilIdle(long now) {
+            return Math.max(windowStart + 2 * windowNanos, lockedUntil + windowNanos) - now;
+        }
+
+        private void roll(long now) {
+            long elapsedWindows = (now - windowStart) / windowNanos;
+            if (elapsedWindows == 1) {
+                previous = current;
+            } else if (elapsedWindows > 1) {
+                previous = 0;
+            }
+            if (elapsedWindows > 0) {
+                current = 0;
+                windowStart += elapsedWindows * windowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs password hashing on a small, bounded pool instead of the request thread.
+ *
+ * A hash costs hundreds of milliseconds of CPU by design, so a login burst on request
+ * threads would occupy every core and starve unrelated endpoints. The pool is capped
+ * below the core count and has a short queue; when the queue is full, or a new hash
+ * would not finish within max-wait-ms, the caller gets PasswordHashingBusyException and
+ * answers 503 instead of piling up more work.
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+    private final int poolSize;
+    // Moving average of one hash, used to turn away work that could not start in time
+    private volatile double averageHashMs = 250;
+
+    public PasswordHashingService(
+            @Lazy PasswordEncoder passwordEncoder,
+            @Value("${app.password.hashing.threads:0}") int threads,
+            @Value("${app.password.hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.password.hashing.max-wait-ms:2000}") long maxWaitMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitMs = maxWaitMs;
+        // Default: half the cores, so hashing can never take the whole machine
+        this.poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Password hashing pool: {} threads, queue {}", poolSize, queueCapacity);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hash many passwords for a bulk job, in order. Keeps at most one task per pool thread
+     * queued, so interactive logins still find room in the queue, and waits for capacity
+     * instead of failing when the pool is busy.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        Semaphore inFlight = new Semaphore(poolSize);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                inFlight.acquire();
+                while (true) {
+                    try {
+                        futures.add(executor.submit(() -> {
+                            try {
+                                return passwordEncoder.encode(rawPassword);
+                            } finally {
+                                inFlight.release();
+                            }
+                        }));
+                        break;
+                    } catch (RejectedExecutionException e) {
+                        // Queue full of interactive work; let it drain
+                        Thread.sleep(Math.max(1, (long) averageHashMs));
+                    }
+                }
+            }
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw busy();
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * After a successful login, re-hash in the background if the stored hash uses an outdated
+     * algorithm or cost; the new hash is handed to the callback. Skipped when the pool is busy.
+     */
+    public void upgradeIfNeeded(String rawPassword, String encodedPassword, Consumer<String> onRehashed) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onRehashed.accept(passwordEncoder.encode(rawPassword));
+                } catch (Exception e) {
+                    logger.warn("Password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Next login will try again
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        // Fail fast rather than queue a hash that would only start after the caller gave up
+        double expectedWaitMs = (double) executor.getQueue().size() / poolSize * averageHashMs;
+        if (expectedWaitMs > maxWaitMs) {
+            throw busy();
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    double elapsedMs = (System.nanoTime() - started) / 1_000_000.0;
+                    averageHashMs = averageHashMs * 0.8 + elapsedMs * 0.2;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        }
+    }
+
+    private PasswordHashingBusyException busy() {
+        return new PasswordHashingBusyException("Too many login attempts right now, please retry shortly",
+                Math.max(1, TimeUnit.MILLISECONDS.toSeconds(maxWaitMs)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,163 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.repository.RevokedRefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked token ids (jti), each kept only until the token would have expired anyway.
+ *
+ * Access tokens live minutes and are published to other services, so they are kept in
+ * memory: lookups are a single hash probe, and eviction walks a queue ordered by expiry.
+ * Refresh tokens live days and are only ever presented to auth-service, so used and
+ * revoked ones are recorded in the revoked_refresh_tokens table. A replayed refresh token
+ * is then caught after a restart and on every instance, and the primary key makes "first
+ * use wins" atomic across instances. Expired rows are pruned in the background.
+ */
+@Service
+public class RevokedTokenRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenRegistry.class);
+
+    @Autowired
+    private RevokedRefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.jwt.revoked-refresh-prune-interval-ms:3600000}")
+    private long pruneIntervalMs;
+
+    // jti -> expiry, epoch seconds
+    private final Map<String, Long> accessTokens = new ConcurrentHashMap<>();
+    private final PriorityBlockingQueue<Expiry> byExpiry =
+            new PriorityBlockingQueue<>(64, Comparator.comparingLong(Expiry::expiresAt));
+
+    private TransactionTemplate refreshTransaction;
+    private ScheduledExecutorService pruner;
+
+    private record Expiry(String jti, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        // Commit the claim on its own, so a duplicate key never marks the caller's transaction rollback-only
+        refreshTransaction = new TransactionTemplate(transactionManager);
+        refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (pruneIntervalMs > 0) {
+            pruner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "revoked-refresh-token-pruner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            pruner.scheduleWithFixedDelay(this::pruneRefreshTokens, pruneIntervalMs, pruneIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pruner != null) {
+            pruner.shutdownNow();
+        }
+    }
+
+    public void revokeAccessToken(String jti, long expiresAt) {
+        evictExpired();
+        if (jti == null || expiresAt <= now()) {
+            return;
+        }
+        if (accessTokens.putIfAbsent(jti, expiresAt) == null) {
+            byExpiry.add(new Expiry(jti, expiresAt));
+        }
+    }
+
+    /**
+     * Mark a refresh token as used or revoked; returns false if it already was, on any instance
+     */
+    public boolean revokeRefreshToken(String jti, long expiresAt) {
+        if (jti == null) {
+            return false;
+        }
+        if (expiresAt <= now()) {
+            return true; // An expired token is rejected by its signature check anyway
+        }
+        try {
+            refreshTransaction.executeWithoutResult(status -> refreshTokenRepository.insert(jti, expiresAt));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public boolean isAccessTokenRevoked(String jti) {
+        return jti != null && accessTokens.containsKey(jti);
+    }
+
+    public boolean isRefreshTokenRevoked(String jti) {
+        return jti != null && refreshTokenRepository.existsById(jti);
+    }
+
+    /**
+     * Revoked access tokens that have not expired yet
+     */
+    public Map<String, Long> accessTokens() {
+        evictExpired();
+        return Map.copyOf(accessTokens);
+    }
+
+    /**
+     * Revoked access tokens held in memory
+     */
+    public int size() {
+        return accessTokens.size();
+    }
+
+    /**
+     * Delete refresh token rows past their expiry; returns the number removed
+     */
+    public int pruneRefreshTokens() {
+        try {
+            Integer removed = refreshTransaction.execute(status -> refreshTokenRepository.deleteExpired(now()));
+            if (removed != null && removed > 0) {
+                logger.debug("Pruned {} expired revoked refresh tokens", removed);
+            }
+            return removed == null ? 0 : removed;
+        } catch (Exception e) {
+            logger.warn("Pruning revoked refresh tokens failed, retrying on the next run: {}", e.toString());
+            return 0;
+        }
+    }
+
+    private void evictExpired() {
+        long now = now();
+        Expiry head;
+        while ((head = byExpiry.peek()) != null && head.expiresAt() <= now) {
+            Expiry expired = byExpiry.poll();
+            if (expired == null) {
+                break;
+            }
+            accessTokens.remove(expired.jti(), expired.expiresAt());
+        }
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,80 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of users whose already issued tokens must no longer be accepted.
+ *
+ * Stateless authentication trusts token claims instead of loading the user, so a
+ * deactivation, deletion or role change would otherwise only take effect when the
+ * token expires. Each entry records when the user was revoked, in milliseconds; tokens
+ * issued before that instant are rejected, so a token issued right after (a new login
+ * following a role change) is accepted. Entries older than the token lifetime can no
+ * longer match a valid token and are dropped.
+ */
+@Service
+public class RevokedUserRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedUserRegistry.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.jwt.expiration:900000}")
+    private Long jwtExpiration;
+
+    // userId -> epoch millisecond of revocation
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        // Deactivated before this instance started: none of their outstanding tokens are valid
+        userRepository.findIdsByIsActiveFalse().forEach(this::revoke);
+        logger.info("Loaded {} deactivated users into the revoked user set", revokedAt.size());
+    }
+
+    /**
+     * Reject every token issued to this user up to now
+     */
+    public void revoke(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        revokedAt.put(userId, now);
+        long horizon = now - jwtExpiration;
+        revokedAt.values().removeIf(at -> at < horizon);
+    }
+
+    /**
+     * Whether a token issued at issuedAt (to the millisecond, see JwtService#issuedAt) is revoked
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long at = userId == null ? null : revokedAt.get(userId);
+        if (at == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() < at;
+    }
+
+    /**
+     * Current revocations, userId to epoch millisecond; tokens issued before that instant are rejected
+     */
+    public Map<Long, Long> revocations() {
+        return Map.copyOf(revokedAt);
+    }
+
+    public int size() {
+        return revokedAt.size();
+    }
+}
@@ -1,34 +1,94 @@
 package com.studentcert.auth.service;
 
 import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.UidSequenceRepository;
 import com.studentcert.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class UidGenerationService {
 
+    private static final int MAX_ALLOCATION_ATTEMPTS = 5;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UidSequenceRepository uidSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Sequence numbers reserved per database round trip; unused ones are skipped on restart
+    @Value("${app.uid.block-size:20}")
+    private long blockSize;
+
+    private TransactionTemplate allocationTransaction;
+
+    // "STU-2025" -> block of sequence numbers this instance owns
+    private final Map<String, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Reserved range [next, end); next is handed out with getAndIncrement
+     */
+    private record Block(AtomicLong next, long end) {
+    }
+
+    @PostConstruct
+    public void init() {
+        // Commit the reservation on its own, so it never waits on or rolls back with the registration
+        allocationTransaction = new TransactionTemplate(transactionManager);
+        allocationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     /**
      * Generate elegant UID based on user role
      * Format: PREFIX-YEAR-SEQUENCE
      * Examples: UNI-2024-001, STU-2024-001, EMP-2024-001, ADM-2024-001
      */
-    public synchronized String generateUid(UserRole role) {
+    public String generateUid(UserRole role) {
         String prefix = getRolePrefix(role);
         int year = LocalDateTime.now().getYear();
         
         // Get the next sequence number for this role and year
-        int sequence = getNextSequence(prefix, year);
+        long sequence = getNextSequence(prefix, year);
         
         // Format: PREFIX-YEAR-SEQUENCE (e.g., STU-2024-001)
         return String.format("%s-%d-%03d", prefix, year, sequence);
     }
 
+    /**
+     * Generate count consecutive UIDs with a single reservation, for bulk imports
+     */
+    public List<String> generateUids(UserRole role, int count) {
+        List<String> uids = new ArrayList<>(count);
+        if (count == 0) {
+            return uids;
+        }
+        String prefix = getRolePrefix(role);
+        int year = LocalDateTime.now().getYear();
+        Block block = reserveBlock(prefix + "-" + year, count);
+        for (long sequence = block.next().get(); sequence < block.end(); sequence++) {
+            uids.add(String.format("%s-%d-%03d", prefix, year, sequence));
+        }
+        return uids;
+    }
+
     /**
      * Get prefix based on user role
      */
@@ -43,15 +103,65 @@ public class UidGenerationService {
 
     /**
      * Get next sequence number for a given prefix and year
-     * Finds the highest existing sequence and increments it
+     * Taken from this instance's reserved block without locking; only an exhausted block
+     * goes to the database, to reserve the next one from the shared counter row
      */
-    private int getNextSequence(String prefix, int year) {
-        String pattern = prefix + "-" + year + "-%";
-        
-        // Count existing UIDs with this pattern
-        long count = userRepository.countByUidStartingWith(pattern);
-        
-        return (int) count + 1;
+    private long getNextSequence(String prefix, int year) {
+        String name = prefix + "-" + year;
+        AtomicReference<Block> holder = blocks.computeIfAbsent(name, key -> new AtomicReference<>(new Block(new AtomicLong(), 0)));
+        while (true) {
+            Block block = holder.get();
+            long sequence = block.next().getAndIncrement();
+            if (sequence < block.end()) {
+                return sequence;
+            }
+            synchronized (holder) {
+                // Another thread may have refilled while this one waited
+                if (holder.get() == block) {
+                    holder.set(reserveBlock(name, blockSize));
+                }
+            }
+        }
+    }
+
+    private Block reserveBlock(String name, long size) {
+        for (int attempt = 0; attempt < MAX_ALLOCATION_ATTEMPTS; attempt++) {
+            try {
+                Block block = allocationTransaction.execute(status -> {
+                    if (uidSequenceRepository.advance(name, size) > 0) {
+                        // Not findById: under open-in-view this may run in the request's persistence context,
+                        // which still holds the row as read by an earlier reservation
+                        long end = uidSequenceRepository.findNextValue(name);
+                        return new Block(new AtomicLong(end - size), end);
+                    }
+                    // First UID of this prefix and year in the cluster: continue after any issued before
+                    long start = highestIssuedSequence(name) + 1;
+                    uidSequenceRepository.create(name, start + size);
+                    return new Block(new AtomicLong(start), start + size);
+                });
+                if (block != null) {
+                    return block;
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created the counter row first; advance it instead
+            }
+        }
+        throw new IllegalStateException("Could not reserve UIDs for " + name);
+    }
+
+    private long highestIssuedSequence(String name) {
+        long highest = 0;
+        String prefix = name + "-";
+        for (String uid : userRepository.findUidsLike(prefix + "%")) {
+            // Ignore any suffix such as the old conflict fallback's "-<timestamp>"
+            String sequence = uid.substring(prefix.length()).split("-", 2)[0];
+            try {
+                highest = Math.max(highest, Long.parseLong(sequence));
+            } catch (NumberFormatException e) {
+                // Not a generated UID
+            }
+        }
+        return highest;
     }
 
     /**
@@ -62,7 +172,7 @@ public class UidGenerationService {
     }
 
     /**
-     * Regenerate UID if conflict occurs (should be rare)
+     * Generate a UID, skipping any that already exist (only possible for UIDs assigned outside this service)
      */
     public String regenerateUidIfConflict(UserRole role) {
         String uid;
@@ -0,0 +1,101 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.dto.UniversityInfo;
+import com.studentcert.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory snapshot of the public university list, so the registration page is served
+ * without touching the database.
+ *
+ * The snapshot is rebuilt from a uid/name/email projection whenever this instance creates,
+ * changes or deletes a university, and on a fixed interval to pick up changes made through
+ * other instances. Its ETag is a hash of the serialized list, so clients revalidating with
+ * If-None-Match get 304 until the list actually changes.
+ */
+@Service
+public class UniversityListCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniversityListCache.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.universities.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    public record Snapshot(List<UniversityInfo> universities, String etag) {
+    }
+
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService refresher;
+
+    @PostConstruct
+    public void init() {
+        refresh();
+        if (refreshIntervalMs > 0) {
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "university-list-refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(() -> {
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    logger.warn("Failed to refresh university list, serving the previous one: {}", e.toString());
+                }
+            }, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Reload the list; call after a university is created, renamed, re-roled or deleted
+     */
+    public synchronized void refresh() {
+        List<UniversityInfo> universities = List.copyOf(userRepository.findUniversityInfos());
+        String etag = etag(universities);
+        if (snapshot == null || !snapshot.etag().equals(etag)) {
+            snapshot = new Snapshot(universities, etag);
+        }
+    }
+
+    private String etag(List<UniversityInfo> universities) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(universities));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint university list", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
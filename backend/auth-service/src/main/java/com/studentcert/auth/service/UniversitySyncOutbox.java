@@ -0,0 +1,54 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.model.UniversitySyncEvent;
+import com.studentcert.auth.repository.UniversitySyncEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records university changes for {@link UniversitySyncRelay} to deliver to university-service.
+ *
+ * Each method must run inside the transaction that changes the user, so the change and its
+ * outbox row commit or roll back together.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class UniversitySyncOutbox {
+
+    @Autowired
+    private UniversitySyncEventRepository eventRepository;
+
+    public void verified(String universityUid) {
+        enqueue(universityUid, UniversitySyncEvent.Type.VERIFIED, null, null);
+    }
+
+    public void unverified(String universityUid) {
+        enqueue(universityUid, UniversitySyncEvent.Type.UNVERIFIED, null, null);
+    }
+
+    public void updated(String universityUid, String universityName, String email) {
+        enqueue(universityUid, UniversitySyncEvent.Type.UPDATED, universityName, email);
+    }
+
+    public void deleted(String universityUid) {
+        enqueue(universityUid, UniversitySyncEvent.Type.DELETED, null, null);
+    }
+
+    private void enqueue(String universityUid, UniversitySyncEvent.Type type, String universityName, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        eventRepository.save(UniversitySyncEvent.builder()
+                .universityUid(universityUid)
+                .type(type)
+                .universityName(universityName)
+                .email(email)
+                .status(UniversitySyncEvent.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+}
@@ -0,0 +1,245 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.dto.UniversitySyncOperation;
+import com.studentcert.auth.dto.UniversitySyncResult;
+import com.studentcert.auth.model.UniversitySyncEvent;
+import com.studentcert.auth.repository.UniversitySyncEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox rows written by {@link UniversitySyncOutbox} to university-service.
+ *
+ * Each poll claims a batch of due events by pushing their next attempt past a lease, sends
+ * them to university-service as one batch request outside any transaction, then deletes the
+ * delivered rows and reschedules the rest with exponential backoff. A relay that dies mid-batch
+ * leaves its claims to expire and be retried, so delivery is at least once; replays are
+ * harmless because university-service reports an operation already in effect as UNCHANGED,
+ * and a delete of a university that is already gone counts as delivered. Operations that
+ * university-service rejects outright are kept as FAILED rather than retried forever; a batch
+ * refused with a client error is split until the offending operation is isolated, so it does
+ * not take the rest of the batch down with it.
+ */
+@Service
+public class UniversitySyncRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniversitySyncRelay.class);
+
+    private enum Outcome {
+        DELIVERED,
+        RETRY,
+        REJECTED
+    }
+
+    @Autowired
+    private UniversitySyncEventRepository eventRepository;
+
+    @Autowired
+    private UniversityServiceClient universityServiceClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.university-sync.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.university-sync.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.university-sync.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.university-sync.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${app.university-sync.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService poller;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (pollIntervalMs > 0) {
+            poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "university-sync-relay");
+                thread.setDaemon(true);
+                return thread;
+            });
+            poller.scheduleWithFixedDelay(this::drain, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Deliver batches until nothing is due; a university's next event becomes due as soon as
+     * the one before it is delivered, so this also drains queued changes in order
+     */
+    public void drain() {
+        try {
+            while (deliverBatch() > 0) {
+                // keep going
+            }
+        } catch (Exception e) {
+            logger.warn("University sync relay poll failed, retrying on the next poll: {}", e.toString());
+        }
+    }
+
+    /**
+     * Claim, deliver and settle one batch; returns the number of events delivered
+     */
+    int deliverBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UniversitySyncEvent> batch = transactionTemplate.execute(status -> {
+            List<UniversitySyncEvent> events = eventRepository.findDeliverable(
+                    UniversitySyncEvent.Status.PENDING, now, Limit.of(batchSize));
+            // Not due again until settled below, or until the lease runs out if this instance dies
+            events.forEach(event -> event.setNextAttemptAt(now.plusSeconds(leaseSeconds)));
+            return events;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Outcome> outcomes = deliver(batch);
+        List<Long> delivered = new ArrayList<>();
+        List<UniversitySyncEvent> failed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            UniversitySyncEvent event = batch.get(i);
+            Outcome outcome = outcomes.get(i);
+            if (outcome == Outcome.DELIVERED) {
+                delivered.add(event.getId());
+                continue;
+            }
+            event.setAttempts(event.getAttempts() + 1);
+            if (outcome == Outcome.REJECTED) {
+                event.setStatus(UniversitySyncEvent.Status.FAILED);
+                logger.error("University service rejected {} for {}, giving up: {}",
+                        event.getType(), event.getUniversityUid(), event.getLastError());
+            } else {
+                event.setNextAttemptAt(LocalDateTime.now().plus(backoff(event.getAttempts())));
+                logger.warn("Failed to sync {} for {} (attempt {}), retrying at {}: {}", event.getType(),
+                        event.getUniversityUid(), event.getAttempts(), event.getNextAttemptAt(), event.getLastError());
+            }
+            failed.add(event);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventRepository.deleteAllByIdInBatch(delivered);
+            eventRepository.saveAll(failed);
+        });
+        return delivered.size();
+    }
+
+    /**
+     * Send the whole batch as one request. If the request fails every event is retried, unless
+     * university-service refused it with a client error: then the batch is halved and each half
+     * sent again, and an event refused on its own is rejected.
+     */
+    private List<Outcome> deliver(List<UniversitySyncEvent> batch) {
+        List<UniversitySyncOperation> operations = batch.stream().map(this::toOperation).toList();
+        List<UniversitySyncResult> results;
+        try {
+            results = universityServiceClient.applyBatch(operations).block();
+        } catch (RuntimeException e) {
+            boolean refused = isRefused(e);
+            if (refused && batch.size() > 1) {
+                int half = batch.size() / 2;
+                List<Outcome> outcomes = new ArrayList<>(deliver(batch.subList(0, half)));
+                outcomes.addAll(deliver(batch.subList(half, batch.size())));
+                return outcomes;
+            }
+            String message = e instanceof WebClientResponseException response
+                    ? response.getStatusCode() + " " + response.getResponseBodyAsString()
+                    : String.valueOf(e.getMessage());
+            batch.forEach(event -> event.setLastError(truncate(message)));
+            return Collections.nCopies(batch.size(), refused ? Outcome.REJECTED : Outcome.RETRY);
+        }
+        if (results == null || results.size() != batch.size()) {
+            batch.forEach(event -> event.setLastError("Unexpected batch response from university service"));
+            return Collections.nCopies(batch.size(), Outcome.RETRY);
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            UniversitySyncEvent event = batch.get(i);
+            UniversitySyncResult result = results.get(i);
+            Outcome outcome = switch (result.getStatus()) {
+                case APPLIED, UNCHANGED -> Outcome.DELIVERED;
+                // Already gone counts for a delete; anything else needs the university to exist
+                case NOT_FOUND -> event.getType() == UniversitySyncEvent.Type.DELETED
+                        ? Outcome.DELIVERED : Outcome.REJECTED;
+                case REJECTED -> Outcome.REJECTED;
+            };
+            if (outcome != Outcome.DELIVERED) {
+                event.setLastError(truncate(result.getStatus() + " " + result.getMessage()));
+            }
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    /**
+     * A 4xx other than a timeout or throttling will be refused again however often it is resent
+     */
+    private static boolean isRefused(RuntimeException e) {
+        if (!(e instanceof WebClientResponseException response)) {
+            return false;
+        }
+        HttpStatusCode status = response.getStatusCode();
+        return status.is4xxClientError()
+                && status.value() != HttpStatus.REQUEST_TIMEOUT.value()
+                && status.value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private UniversitySyncOperation toOperation(UniversitySyncEvent event) {
+        UniversitySyncOperation.Action action = switch (event.getType()) {
+            case VERIFIED -> UniversitySyncOperation.Action.VERIFY;
+            case UNVERIFIED -> UniversitySyncOperation.Action.UNVERIFY;
+            case UPDATED -> UniversitySyncOperation.Action.UPDATE;
+            case DELETED -> UniversitySyncOperation.Action.DELETE;
+        };
+        return UniversitySyncOperation.builder()
+                .universityId(event.getUniversityUid())
+                .action(action)
+                .universityName(event.getUniversityName())
+                .email(event.getEmail())
+                .build();
+    }
+
+    private String truncate(String message) {
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = initialBackoffMs << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+}
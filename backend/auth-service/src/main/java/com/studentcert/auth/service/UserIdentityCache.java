@@ -0,0 +1,94 @@
+package com.studentcert.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studentcert.auth.dto.UserInfoResponse;
+import com.studentcert.auth.model.User;
+import com.studentcert.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Near-cache of the slim identity other services look users up by, so repeated
+ * service-to-service lookups by id or email skip the database.
+ *
+ * Entries are dropped when this instance changes or deletes the user; the TTL bounds how
+ * long a change made through another instance can be served stale. Hit ratio is published
+ * as cache.gets{cache=user-identity-by-id|user-identity-by-email} and
+ * auth.user.identity.cache.hit.ratio.
+ */
+@Service
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserInfoResponse> byId;
+    private final Cache<String, UserInfoResponse> byEmail;
+
+    public UserIdentityCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.user-cache.max-size:10000}") long maxSize,
+            @Value("${app.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "user-identity-by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "user-identity-by-email");
+        Gauge.builder("auth.user.identity.cache.hit.ratio", this, UserIdentityCache::hitRatio)
+                .description("Share of user identity lookups served without a database query")
+                .register(meterRegistry);
+    }
+
+    public Optional<UserInfoResponse> findById(Long id) {
+        // Caffeine does not store null, so unknown users are looked up again next time
+        return Optional.ofNullable(byId.get(id, key -> userRepository.findById(key).map(this::toInfo).orElse(null)));
+    }
+
+    public Optional<UserInfoResponse> findByEmail(String email) {
+        return Optional.ofNullable(byEmail.get(email, key -> userRepository.findByEmail(key).map(this::toInfo).orElse(null)));
+    }
+
+    /**
+     * Drop a user after it was changed or deleted; call once the change is committed
+     */
+    public void evict(User user) {
+        if (user.getId() != null) {
+            byId.invalidate(user.getId());
+        }
+        if (user.getEmail() != null) {
+            byEmail.invalidate(user.getEmail());
+        }
+    }
+
+    public double hitRatio() {
+        long hits = byId.stats().hitCount() + byEmail.stats().hitCount();
+        long requests = byId.stats().requestCount() + byEmail.stats().requestCount();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private UserInfoResponse toInfo(User user) {
+        return UserInfoResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .fullName(user.getFullName())
+                .role(user.getRole().name())
+                .uid(user.getUid())
+                .universityUid(user.getUniversityUid())
+                .build();
+    }
+}
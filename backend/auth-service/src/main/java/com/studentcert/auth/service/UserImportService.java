@@ -0,0 +1,380 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.dto.UserImportResult;
+import com.studentcert.auth.model.UserRole;
+import com.studentcert.auth.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Creates student accounts in bulk from CSV or NDJSON, for universities onboarding a cohort.
+ *
+ * Rows are processed in batches: validated, checked against existing emails with one
+ * query, passwords hashed in parallel on the shared hashing pool, UIDs reserved as one
+ * range, and inserted with a single JDBC batch. Rows without a password get an invite
+ * token instead of a hash. A result line per row is written and flushed after each batch,
+ * so the caller sees progress on large files.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    // Not a hash any encoder produces, so an invited account cannot log in before accepting
+    static final String INVITE_PASSWORD_PLACEHOLDER = "{invite}";
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final String INSERT_SQL = "INSERT INTO users (email, password, full_name, role, is_verified, "
+            + "is_active, uid, university_uid, password_reset_token, password_reset_token_expires_at, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private UidGenerationService uidGenerationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.invite-expiry-days:14}")
+    private int inviteExpiryDays;
+
+    private TransactionTemplate batchTransaction;
+
+    private record ImportRow(long row, String email, String fullName, String universityUid, String password,
+                             String error) {
+    }
+
+    @PostConstruct
+    public void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import students from input, writing one UserImportResult per data row to output as NDJSON.
+     * Rows without a universityUid use defaultUniversityUid.
+     */
+    public void importStudents(InputStream input, Format format, String defaultUniversityUid, OutputStream output)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        Set<String> seenEmails = new HashSet<>();
+        Map<String, Boolean> knownUniversities = new HashMap<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        long started = System.nanoTime();
+        long row = 0;
+        long created = 0;
+
+        Map<String, Integer> csvColumns = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvColumns == null) {
+                csvColumns = parseCsvHeader(line);
+                continue;
+            }
+            row++;
+            ImportRow parsed = format == Format.CSV
+                    ? parseCsvRow(row, line, csvColumns, defaultUniversityUid)
+                    : parseJsonRow(row, line, defaultUniversityUid);
+            batch.add(parsed);
+            if (batch.size() >= batchSize) {
+                created += processBatch(batch, seenEmails, knownUniversities, writer);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            created += processBatch(batch, seenEmails, knownUniversities, writer);
+        }
+        writer.flush();
+
+        logger.info("Imported {} of {} students in {} ms", created, row, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private long processBatch(List<ImportRow> rows, Set<String> seenEmails, Map<String, Boolean> knownUniversities,
+                              Writer writer) throws IOException {
+        UserImportResult[] results = new UserImportResult[rows.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row, knownUniversities);
+            if (error == null && !seenEmails.add(row.email())) {
+                error = "Duplicate email in import";
+            }
+            if (error != null) {
+                results[i] = failed(row, error);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // One round trip for the whole batch instead of one lookup per row
+        if (!accepted.isEmpty()) {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                    accepted.stream().map(i -> rows.get(i).email()).toList()));
+            accepted.removeIf(i -> {
+                if (existing.contains(rows.get(i).email())) {
+                    results[i] = failed(rows.get(i), "User with email " + rows.get(i).email() + " already exists");
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        List<String> rawPasswords = new ArrayList<>();
+        for (int i : accepted) {
+            if (rows.get(i).password() != null) {
+                rawPasswords.add(rows.get(i).password());
+            }
+        }
+        List<String> hashes = passwordHashingService.encodeAll(rawPasswords);
+        List<String> uids = uidGenerationService.generateUids(UserRole.STUDENT, accepted.size());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp inviteExpiresAt = Timestamp.valueOf(LocalDateTime.now().plusDays(inviteExpiryDays));
+        List<Object[]> inserts = new ArrayList<>(accepted.size());
+        int nextHash = 0;
+        for (int n = 0; n < accepted.size(); n++) {
+            int i = accepted.get(n);
+            ImportRow row = rows.get(i);
+            boolean invited = row.password() == null;
+            String inviteToken = invited ? UUID.randomUUID().toString() : null;
+            inserts.add(new Object[]{
+                    row.email(),
+                    invited ? INVITE_PASSWORD_PLACEHOLDER : hashes.get(nextHash++),
+                    row.fullName(),
+                    UserRole.STUDENT.name(),
+                    !invited, // Vouched for by the importing admin; invited students verify by accepting
+                    true,
+                    uids.get(n),
+                    row.universityUid(),
+                    inviteToken,
+                    invited ? inviteExpiresAt : null,
+                    now,
+                    now});
+            results[i] = UserImportResult.builder()
+                    .row(row.row())
+                    .email(row.email())
+                    .status(UserImportResult.Status.CREATED)
+                    .uid(uids.get(n))
+                    .inviteToken(inviteToken)
+                    .build();
+        }
+        insert(inserts, accepted, rows, results);
+
+        long created = 0;
+        for (UserImportResult result : results) {
+            if (result.getStatus() == UserImportResult.Status.CREATED) {
+                created++;
+            }
+            writer.write(objectMapper.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+        return created;
+    }
+
+    private void insert(List<Object[]> inserts, List<Integer> accepted, List<ImportRow> rows,
+                        UserImportResult[] results) {
+        if (inserts.isEmpty()) {
+            return;
+        }
+        try {
+            batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, inserts));
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these emails since the check; retry row by row to find it
+            for (int n = 0; n < inserts.size(); n++) {
+                Object[] insert = inserts.get(n);
+                try {
+                    jdbcTemplate.update(INSERT_SQL, insert);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    int i = accepted.get(n);
+                    String email = rows.get(i).email();
+                    results[i] = failed(rows.get(i), userRepository.existsByEmail(email)
+                            ? "User with email " + email + " already exists"
+                            : "Could not be saved");
+                }
+            }
+        }
+    }
+
+    private String validate(ImportRow row, Map<String, Boolean> knownUniversities) {
+        if (row.email() == null || row.email().length() > 100 || !EMAIL_PATTERN.matcher(row.email()).matches()) {
+            return "Email should be valid";
+        }
+        if (row.fullName() == null) {
+            return "Full name is required";
+        }
+        if (row.fullName().length() > 100) {
+            return "Full name must not exceed 100 characters";
+        }
+        if (row.universityUid() == null) {
+            return "Students must select a university";
+        }
+        if (!knownUniversities.computeIfAbsent(row.universityUid(),
+                uid -> userRepository.existsByUidAndRole(uid, UserRole.UNIVERSITY))) {
+            return "Unknown university " + row.universityUid();
+        }
+        if (row.password() != null && row.password().length() < 8) {
+            return "Password must be at least 8 characters long";
+        }
+        return null;
+    }
+
+    private static UserImportResult failed(ImportRow row, String error) {
+        return UserImportResult.builder()
+                .row(row.row())
+                .email(row.email())
+                .status(UserImportResult.Status.FAILED)
+                .error(error)
+                .build();
+    }
+
+    private ImportRow parseJsonRow(long row, String line, String defaultUniversityUid) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            return new ImportRow(row,
+                    text(node, "email"),
+                    text(node, "fullName"),
+                    orDefault(text(node, "universityUid"), defaultUniversityUid),
+                    text(node, "password"),
+                    null);
+        } catch (IOException e) {
+            return new ImportRow(row, null, null, null, null, "Malformed JSON");
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : blankToNull(value.asText());
+    }
+
+    /**
+     * Header names are matched case-insensitively, ignoring spaces and underscores
+     * (email, full_name, university_uid, password)
+     */
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(line);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).replaceAll("[\\s_]", "").toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("email") || !columns.containsKey("fullname")) {
+            throw new IllegalArgumentException("CSV header must include email and full_name columns");
+        }
+        return columns;
+    }
+
+    private static ImportRow parseCsvRow(long row, String line, Map<String, Integer> columns,
+                                         String defaultUniversityUid) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return new ImportRow(row, null, null, null, null, "Malformed CSV row");
+        }
+        return new ImportRow(row,
+                column(values, columns, "email"),
+                column(values, columns, "fullname"),
+                orDefault(column(values, columns, "universityuid"), defaultUniversityUid),
+                column(values, columns, "password"),
+                null);
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= values.size() ? null : blankToNull(values.get(index));
+    }
+
+    /**
+     * RFC 4180 fields on a single line; quoted fields may contain commas and "" escapes.
+     * Returns null for an unterminated quote.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value != null ? value : blankToNull(defaultValue);
+    }
+}
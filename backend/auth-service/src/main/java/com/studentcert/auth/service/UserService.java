@@ -5,7 +5,6 @@ import com.studentcert.auth.model.UserRole;
 import com.studentcert.auth.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -17,10 +16,13 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
-    private final PasswordEncoder passwordEncoder;
+    @Autowired
+    private UserIdentityCache userIdentityCache;
+
+    private final PasswordHashingService passwordHashingService;
 
-    public UserService(@Lazy PasswordEncoder passwordEncoder) {
-        this.passwordEncoder = passwordEncoder;
+    public UserService(@Lazy PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
     }
 
     public Optional<User> findByEmail(String email) {
@@ -34,7 +36,7 @@ public class UserService {
 
         User user = User.builder()
             .email(email)
-            .password(passwordEncoder.encode(rawPassword))
+            .password(passwordHashingService.encode(rawPassword))
             .role(role)
             .isVerified(role == UserRole.ADMIN) // Auto-verify admin users, others need verification
             .isActive(true)
@@ -46,16 +48,37 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    /**
+     * Set the password of an account created by bulk import, which also verifies it
+     */
+    public User acceptInvite(String token, String rawPassword) {
+        User user = userRepository.findByPasswordResetToken(token)
+            .filter(u -> u.getPasswordResetTokenExpiresAt() != null
+                && u.getPasswordResetTokenExpiresAt().isAfter(LocalDateTime.now()))
+            .orElseThrow(() -> new RuntimeException("Invite is invalid or has expired"));
+
+        user.setPassword(passwordHashingService.encode(rawPassword));
+        user.setIsVerified(true);
+        user.setPasswordResetToken(null);
+        user.setPasswordResetTokenExpiresAt(null);
+        return updateUser(user);
+    }
+
     public boolean existsByEmail(String email) {
         return userRepository.findByEmail(email).isPresent();
     }
 
     public User updateUser(User user) {
         user.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userIdentityCache.evict(saved);
+        return saved;
     }
     
     public void deleteUser(Long userId) {
-        userRepository.deleteById(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            userRepository.delete(user);
+            userIdentityCache.evict(user);
+        });
     }
 }
\ No newline at end of file
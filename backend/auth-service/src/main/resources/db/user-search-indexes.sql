@@ -0,0 +1,9 @@
+-- Trigram indexes for the admin user search (lower(column) LIKE '%term%'), PostgreSQL only.
+-- Applied at startup by SearchIndexInitializer; every statement is idempotent.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_full_name_trgm ON users USING gin (lower(full_name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_uid_trgm ON users USING gin (lower(uid) gin_trgm_ops);
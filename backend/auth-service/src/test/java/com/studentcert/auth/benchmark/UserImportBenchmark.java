@@ -0,0 +1,115 @@
+package com.studentcert.auth.benchmark;
+
+import com.studentcert.auth.AuthServiceApplication;
+import com.studentcert.auth.service.UserImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of {@link UserImportService#importStudents} on an in-memory H2
+ * database: parsing, validation, the existing-email query, UID reservation and the JDBC
+ * batch insert. Rows carry no password (invites), so bcrypt does not dominate the score.
+ *
+ * Each iteration imports the same NDJSON file into an empty student table; the score is
+ * milliseconds per import (rows/s = rows * 1000 / score).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class UserImportBenchmark {
+
+    private static final String UNIVERSITY_UID = "UNI-BENCH-001";
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserImportService importService;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] input;
+
+    @Setup(Level.Trial)
+    public void startService() {
+        context = new SpringApplicationBuilder(AuthServiceApplication.class)
+                // Arguments, so they take precedence over application.yaml's Postgres settings
+                .run(
+                        "--server.port=0",
+                        "--spring.profiles.active=dev", // generated token signing key
+                        "--spring.datasource.url=jdbc:h2:mem:import-benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.studentcert=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+        importService = context.getBean(UserImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO users (email, password, full_name, role, is_verified, is_active, uid, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "registrar@bench.example", "{noop}unused", "Benchmark University", "UNIVERSITY", true, true,
+                UNIVERSITY_UID, now, now);
+
+        StringBuilder ndjson = new StringBuilder(rows * 80);
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"email\":\"student").append(i).append("@bench.example\",")
+                    .append("\"fullName\":\"Student ").append(i).append("\"}\n");
+        }
+        input = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearStudents() {
+        jdbcTemplate.update("DELETE FROM users WHERE role = 'STUDENT'");
+    }
+
+    @Benchmark
+    public int importStudents() throws IOException {
+        ByteArrayOutputStream results = new ByteArrayOutputStream(rows * 120);
+        importService.importStudents(new ByteArrayInputStream(input), UserImportService.Format.NDJSON,
+                UNIVERSITY_UID, results);
+        return results.size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkImported() {
+        Long imported = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT uid) FROM users WHERE role = 'STUDENT'", Long.class);
+        if (imported == null || imported != rows) {
+            throw new IllegalStateException("Imported " + imported + " unique students, expected " + rows);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopService() {
+        context.close();
+    }
+}
@@ -0,0 +1,164 @@
+package com.studentcert.auth.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.config.ServiceKeyFilter;
+import com.studentcert.auth.model.RevokedRefreshToken;
+import com.studentcert.auth.repository.RevokedRefreshTokenRepository;
+import com.studentcert.auth.service.JwtService;
+import com.studentcert.auth.service.RevokedTokenRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Refresh token rotation, replay detection and logout against an in-memory H2 database;
+ * logs in as the admin user DataInitializer creates. The dev profile signs with a generated key.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth-token-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.password.bcrypt-strength=4",
+        "app.revocations.api-key=test-service-key",
+        "logging.level.com.studentcert=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class AuthControllerTokenTest {
+
+    private static final String EMAIL = "admin@studentcert.com";
+    private static final String PASSWORD = "admin123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @Autowired
+    private RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+
+    @Test
+    void refreshRotatesTheTokenAndRecordsTheUsedOne() throws Exception {
+        JsonNode login = login();
+        String refreshToken = login.path("refreshToken").asText();
+
+        MvcResult result = refresh(refreshToken);
+        assertEquals(200, result.getResponse().getStatus());
+        String rotated = data(result).path("refreshToken").asText();
+        assertNotEquals(refreshToken, rotated);
+
+        assertTrue(revokedRefreshTokenRepository.existsById(jti(refreshToken)));
+        assertFalse(revokedRefreshTokenRepository.existsById(jti(rotated)));
+    }
+
+    @Test
+    void replayedRefreshTokenRevokesTheUser() throws Exception {
+        String refreshToken = login().path("refreshToken").asText();
+        MvcResult first = refresh(refreshToken);
+        assertEquals(200, first.getResponse().getStatus());
+        String rotated = data(first).path("refreshToken").asText();
+        String accessToken = data(first).path("token").asText();
+
+        // The old token again: whoever holds it, every token issued so far stops working
+        assertEquals(401, refresh(refreshToken).getResponse().getStatus());
+        assertEquals(401, refresh(rotated).getResponse().getStatus());
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().is4xxClientError());
+
+        // Logging in again issues tokens after the revocation
+        assertEquals(200, refresh(login().path("refreshToken").asText()).getResponse().getStatus());
+    }
+
+    @Test
+    void logoutRevokesTheRefreshToken() throws Exception {
+        JsonNode login = login();
+        String refreshToken = login.path("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + login.path("token").asText())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshBody(refreshToken))))
+                .andExpect(status().isOk());
+
+        assertTrue(revokedRefreshTokenRepository.existsById(jti(refreshToken)));
+        assertEquals(401, refresh(refreshToken).getResponse().getStatus());
+        assertTrue(revokedTokenRegistry.accessTokens().containsKey(jti(login.path("token").asText())));
+    }
+
+    @Test
+    void expiredRefreshTokenRowsArePruned() {
+        long now = System.currentTimeMillis() / 1000;
+        revokedRefreshTokenRepository.save(new RevokedRefreshToken("expired-jti", now - 60));
+        revokedRefreshTokenRepository.save(new RevokedRefreshToken("live-jti", now + 3600));
+
+        assertTrue(revokedTokenRegistry.pruneRefreshTokens() >= 1);
+        assertFalse(revokedRefreshTokenRepository.existsById("expired-jti"));
+        assertTrue(revokedRefreshTokenRepository.existsById("live-jti"));
+    }
+
+    @Test
+    void revocationFeedRequiresTheServiceKey() throws Exception {
+        mockMvc.perform(get("/api/auth/revocations"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/auth/revocations").header(ServiceKeyFilter.HEADER, "wrong-key"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/auth/revocations").header(ServiceKeyFilter.HEADER, "test-service-key"))
+                .andExpect(status().isOk());
+    }
+
+    private record RefreshBody(String refreshToken) {
+    }
+
+    private record LoginBody(String email, String password) {
+    }
+
+    private JsonNode login() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginBody(EMAIL, PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return data(result);
+    }
+
+    private MvcResult refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshBody(refreshToken))))
+                .andReturn();
+    }
+
+    private JsonNode data(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data");
+    }
+
+    private String jti(String token) {
+        return jwtService.extractAllClaims(token).getId();
+    }
+}
@@ -0,0 +1,74 @@
+package com.studentcert.auth.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtSigningKeysTest {
+
+    @Test
+    void refusesToStartWithoutKeysOutsideDev() {
+        JwtSigningKeys keys = signingKeys("", "");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, keys::init);
+        assertTrue(e.getMessage().contains("JWT_SIGNING_PRIVATE_KEY"));
+    }
+
+    @Test
+    void refusesHalfAConfiguredKeyPair() throws Exception {
+        JwtSigningKeys keys = signingKeys("", encodedPair()[1]);
+        ((MockEnvironment) ReflectionTestUtils.getField(keys, "environment")).setActiveProfiles("dev");
+
+        assertThrows(IllegalStateException.class, keys::init);
+    }
+
+    @Test
+    void generatesAKeyUnderTheDevProfile() {
+        JwtSigningKeys keys = signingKeys("", "");
+        ((MockEnvironment) ReflectionTestUtils.getField(keys, "environment")).setActiveProfiles("dev");
+
+        keys.init();
+
+        assertNotNull(keys.active().privateKey());
+        assertNotNull(keys.find(keys.active().keyId()));
+    }
+
+    @Test
+    void usesConfiguredKeys() throws Exception {
+        String[] pair = encodedPair();
+        JwtSigningKeys keys = signingKeys(pair[0], pair[1]);
+
+        keys.init();
+
+        assertEquals(pair[1], Base64.getEncoder().encodeToString(keys.active().publicKey().getEncoded()));
+    }
+
+    private static JwtSigningKeys signingKeys(String privateKey, String publicKey) {
+        JwtSigningKeys keys = new JwtSigningKeys();
+        ReflectionTestUtils.setField(keys, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(keys, "configuredPrivateKey", privateKey);
+        ReflectionTestUtils.setField(keys, "configuredPublicKey", publicKey);
+        ReflectionTestUtils.setField(keys, "additionalPublicKeys", "");
+        return keys;
+    }
+
+    private static String[] encodedPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair pair = generator.generateKeyPair();
+        return new String[] {
+                Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded()),
+                Base64.getEncoder().encodeToString(pair.getPublic().getEncoded())
+        };
+    }
+}
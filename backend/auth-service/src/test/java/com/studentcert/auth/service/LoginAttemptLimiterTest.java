@@ -0,0 +1,118 @@
+package com.studentcert.auth.service;
+
+import com.studentcert.auth.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginAttemptLimiterTest {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(60);
+    private static final long LOCKOUT = TimeUnit.SECONDS.toNanos(30);
+    private static final long MAX_LOCKOUT = TimeUnit.SECONDS.toNanos(100);
+
+    @Test
+    void windowAllowsUpToTheLimit() {
+        LoginAttemptLimiter.SlidingWindow window = new LoginAttemptLimiter.SlidingWindow(WINDOW, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, window.record(i, 3, LOCKOUT, MAX_LOCKOUT));
+        }
+        assertEquals(LOCKOUT, window.record(3, 3, LOCKOUT, MAX_LOCKOUT));
+    }
+
+    @Test
+    void previousWindowCountsByItsOverlap() {
+        LoginAttemptLimiter.SlidingWindow window = new LoginAttemptLimiter.SlidingWindow(WINDOW, 0);
+        for (int i = 0; i < 4; i++) {
+            window.record(i, 4, LOCKOUT, MAX_LOCKOUT);
+        }
+
+        // A quarter into the next window, 3 of the previous 4 attempts still count: one more fits, a second does not
+        long quarterIn = WINDOW + WINDOW / 4;
+        assertEquals(0, window.record(quarterIn, 4, LOCKOUT, MAX_LOCKOUT));
+        assertTrue(window.record(quarterIn + 1, 4, LOCKOUT, MAX_LOCKOUT) > 0);
+    }
+
+    @Test
+    void windowsOlderThanOneWindowAreForgotten() {
+        LoginAttemptLimiter.SlidingWindow window = new LoginAttemptLimiter.SlidingWindow(WINDOW, 0);
+        for (int i = 0; i < 4; i++) {
+            window.record(i, 4, LOCKOUT, MAX_LOCKOUT);
+        }
+
+        long later = 2 * WINDOW;
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, window.record(later + i, 4, LOCKOUT, MAX_LOCKOUT));
+        }
+    }
+
+    @Test
+    void lockoutDoublesUpToTheMaximum() {
+        LoginAttemptLimiter.SlidingWindow window = new LoginAttemptLimiter.SlidingWindow(WINDOW, 0);
+        long now = 0;
+
+        assertEquals(LOCKOUT, window.record(now, 0, LOCKOUT, MAX_LOCKOUT));
+        // Attempts while locked out report the remaining time and do not extend it
+        assertEquals(LOCKOUT - 10, window.record(now + 10, 0, LOCKOUT, MAX_LOCKOUT));
+
+        now += LOCKOUT;
+        assertEquals(2 * LOCKOUT, window.record(now, 0, LOCKOUT, MAX_LOCKOUT));
+        now += 2 * LOCKOUT;
+        assertEquals(MAX_LOCKOUT, window.record(now, 0, LOCKOUT, MAX_LOCKOUT));
+        now += MAX_LOCKOUT;
+        assertEquals(MAX_LOCKOUT, window.record(now, 0, LOCKOUT, MAX_LOCKOUT));
+    }
+
+    @Test
+    void failuresLockTheEmailAndSuccessClearsThem() {
+        LoginAttemptLimiter limiter = limiter(100, 3);
+
+        limiter.recordFailure("student@uni.example");
+        limiter.recordFailure("student@uni.example");
+        limiter.recordSuccess("Student@Uni.example");
+        limiter.recordFailure("student@uni.example");
+        limiter.recordFailure("student@uni.example");
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.1", "student@uni.example"));
+
+        limiter.recordFailure("student@uni.example");
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> limiter.acquire("10.0.0.2", " STUDENT@uni.example "));
+        assertEquals(30, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    void lockedEmailIsRefusedWithoutChargingTheAddress() {
+        LoginAttemptLimiter limiter = limiter(2, 1);
+        limiter.recordFailure("locked@uni.example");
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(RateLimitExceededException.class, () -> limiter.acquire("10.0.0.1", "locked@uni.example"));
+        }
+
+        // The address still has its whole allowance for other accounts
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.1", "other@uni.example"));
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.1", "other@uni.example"));
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire("10.0.0.1", "other@uni.example"));
+    }
+
+    @Test
+    void addressesAreLimitedSeparately() {
+        LoginAttemptLimiter limiter = limiter(1, 5);
+
+        limiter.acquire("10.0.0.1", null);
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire("10.0.0.1", null));
+        assertDoesNotThrow(() -> limiter.acquire("10.0.0.2", null));
+    }
+
+    private static LoginAttemptLimiter limiter(int ipMaxAttempts, int emailMaxFailures) {
+        return new LoginAttemptLimiter(new SimpleMeterRegistry(), true, ipMaxAttempts, 60, emailMaxFailures,
+                900, 30, 3600, 1000);
+    }
+}
@@ -0,0 +1,129 @@
+package com.studentcert.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studentcert.auth.dto.UserImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Duplicate emails within one import, with a batch size small enough that they also span batches
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.import.batch-size=2",
+        "logging.level.com.studentcert=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+@ActiveProfiles("dev")
+class UserImportServiceTest {
+
+    private static final String UNIVERSITY_UID = "UNI-TEST-001";
+
+    @Autowired
+    private UserImportService importService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE role IN ('STUDENT', 'UNIVERSITY')");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO users (email, password, full_name, role, is_verified, is_active, uid, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                "registrar@test.example", "{noop}unused", "Test University", "UNIVERSITY", true, true,
+                UNIVERSITY_UID, now, now);
+    }
+
+    @Test
+    void duplicateEmailsAreReportedAndOnlyTheFirstIsCreated() throws Exception {
+        List<UserImportResult> results = importNdjson(
+                row("a@test.example", "Student A"),
+                row("a@test.example", "Student A again"),   // same batch
+                row("b@test.example", "Student B"),
+                row("c@test.example", "Student C"),
+                row("b@test.example", "Student B again"));  // later batch
+
+        assertEquals(5, results.size());
+        assertCreated(results.get(0), 1);
+        assertDuplicate(results.get(1), 2);
+        assertCreated(results.get(2), 3);
+        assertCreated(results.get(3), 4);
+        assertDuplicate(results.get(4), 5);
+        assertEquals(3, students());
+    }
+
+    @Test
+    void emailsAlreadyRegisteredAreReported() throws Exception {
+        importNdjson(row("existing@test.example", "Existing Student"));
+
+        List<UserImportResult> results = importNdjson(
+                row("existing@test.example", "Existing Student"),
+                row("new@test.example", "New Student"));
+
+        assertEquals(UserImportResult.Status.FAILED, results.get(0).getStatus());
+        assertEquals("User with email existing@test.example already exists", results.get(0).getError());
+        assertCreated(results.get(1), 2);
+        assertEquals(2, students());
+    }
+
+    private static String row(String email, String fullName) {
+        return "{\"email\":\"" + email + "\",\"fullName\":\"" + fullName + "\"}";
+    }
+
+    private List<UserImportResult> importNdjson(String... rows) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        importService.importStudents(
+                new ByteArrayInputStream(String.join("\n", rows).getBytes(StandardCharsets.UTF_8)),
+                UserImportService.Format.NDJSON, UNIVERSITY_UID, output);
+        List<UserImportResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                results.add(objectMapper.readValue(line, UserImportResult.class));
+            }
+        }
+        return results;
+    }
+
+    private static void assertCreated(UserImportResult result, long row) {
+        assertEquals(row, result.getRow());
+        assertEquals(UserImportResult.Status.CREATED, result.getStatus());
+        assertNotNull(result.getUid());
+        assertNull(result.getError());
+    }
+
+    private static void assertDuplicate(UserImportResult result, long row) {
+        assertEquals(row, result.getRow());
+        assertEquals(UserImportResult.Status.FAILED, result.getStatus());
+        assertEquals("Duplicate email in import", result.getError());
+        assertNull(result.getUid());
+    }
+
+    private long students() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE role = 'STUDENT'", Long.class);
+    }
+}
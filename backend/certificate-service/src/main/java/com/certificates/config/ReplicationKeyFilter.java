@@ -0,0 +1,59 @@
+package com.certificates.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the replication feed (snapshot and change feed), which carries every certificate
+ * including student emails, with a key shared with the replicating services.
+ *
+ * The feed stays closed while no key is configured.
+ */
+public class ReplicationKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Replication-Key";
+
+    private static final String PATH_PREFIX = "/certificates/replication/";
+
+    private final byte[] key;
+
+    public ReplicationKeyFilter(String key) {
+        this.key = key == null || key.isBlank() ? null : key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (key == null) {
+            reject(response, HttpStatus.FORBIDDEN, "Replication feed is disabled");
+            return;
+        }
+        String presented = request.getHeader(HEADER);
+        // Constant-time comparison so the key cannot be guessed byte by byte from response times
+        if (presented == null || !MessageDigest.isEqual(key, presented.getBytes(StandardCharsets.UTF_8))) {
+            reject(response, HttpStatus.UNAUTHORIZED, "Missing or invalid " + HEADER);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"success\":false,\"message\":\"" + message + "\"}");
+    }
+}
@@ -1,5 +1,6 @@
 package com.certificates.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,15 +10,21 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    @Value("${certificate.replication.api-key:}")
+    private String replicationKey;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
             http.csrf(csrf -> csrf.disable())
+                // Service-to-service key on the replication feed; everything else is unchanged
+                .addFilterBefore(new ReplicationKeyFilter(replicationKey), BasicAuthenticationFilter.class)
                 .cors(Customizer.withDefaults()) // Enable CORS
                 .authorizeHttpRequests(auth -> auth
 //                    .requestMatchers("/api/certificates/upload").hasAnyRole("ADMIN", "UNIVERSITY")
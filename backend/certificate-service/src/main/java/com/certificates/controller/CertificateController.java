@@ -3,17 +3,22 @@ package com.certificates.controller;
 import com.certificates.dto.*;
 import com.certificates.model.Certificate;
 import com.certificates.service.CertificateFileService;
+import com.certificates.service.CertificateReplicationService;
 import com.certificates.service.CertificateService;
 import com.certificates.service.PdfService;
+import com.certificates.service.VerificationTokenService;
 import com.certificates.util.JwtUtil;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,6 +29,8 @@ public class CertificateController {
    private final CertificateService service;
     private final CertificateFileService fileService;
     private final PdfService pdfService;
+    private final VerificationTokenService tokenService;
+    private final CertificateReplicationService replicationService;
     private final JwtUtil jwtUtil;
     Logger logger = LoggerFactory.getLogger(CertificateController.class);
 
@@ -90,6 +97,41 @@ public class CertificateController {
         return ResponseEntity.ok(service.getCertificateByCertificateNumber(certificateNumber));
     }
 
+    @GetMapping("/{certificateNumber}/token")
+    public ResponseEntity<VerificationTokenResponse> issueVerificationToken(@PathVariable String certificateNumber) {
+        logger.info("issue verification token for certificate: {}", certificateNumber);
+        return ResponseEntity.ok(tokenService.issueToken(certificateNumber));
+    }
+
+    @GetMapping("/token-keys")
+    public ResponseEntity<List<TokenKeyResponse>> getTokenKeys() {
+        return ResponseEntity.ok(tokenService.getTokenKeys());
+    }
+
+    @GetMapping("/revocations")
+    public ResponseEntity<List<RevokedCertificateResponse>> listRevocations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(service.listRevocations(since));
+    }
+
+    @GetMapping(value = "/replication/snapshot", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> replicationSnapshot() {
+        logger.info("streaming certificate replication snapshot");
+        LocalDateTime cursor = replicationService.snapshotCursor();
+        return ResponseEntity.ok()
+                .header("X-Replication-Cursor", cursor.toString())
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(replicationService::writeSnapshot);
+    }
+
+    @GetMapping("/replication/changes")
+    public ResponseEntity<List<ReplicaCertificateResponse>> replicationChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) UUID afterId,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(replicationService.listChanges(since, afterId, Math.max(1, Math.min(limit, 5000))));
+    }
+
     @PutMapping
     public ResponseEntity<Certificate> updateCertificate(@Validated @RequestBody CertificateUpdateRequest req) {
         logger.info("update certificate given data: {}", req.toString());
@@ -0,0 +1,57 @@
+package com.certificates.dto;
+
+import com.certificates.model.Certificate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Verification-relevant fields of a certificate, as replicated to verification-service.
+ * Everything the hash and signature cover is included; storage paths are not.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplicaCertificateResponse {
+    private UUID certificateId;
+    private String certificateNumber;
+    private String studentId;
+    private String universityId;
+    private String studentName;
+    private String studentEmail;
+    private String courseName;
+    private String specialization;
+    private String grade;
+    private Double cgpa;
+    private String issueDate;
+    private String completionDate;
+    private String certificateHash;
+    private String digitalSignature;
+    private Status status;
+    private String revocationReason;
+    private LocalDateTime updatedAt;
+
+    public static ReplicaCertificateResponse from(Certificate cert) {
+        return new ReplicaCertificateResponse(
+                cert.getCertificateId(),
+                cert.getCertificateNumber(),
+                cert.getStudentId(),
+                cert.getUniversityId(),
+                cert.getStudentName(),
+                cert.getStudentEmail(),
+                cert.getCourseName(),
+                cert.getSpecialization(),
+                cert.getGrade(),
+                cert.getCgpa(),
+                cert.getIssueDate(),
+                cert.getCompletionDate(),
+                cert.getCertificateHash(),
+                cert.getDigitalSignature(),
+                cert.getStatus(),
+                cert.getRevocationReason(),
+                cert.getUpdatedAt());
+    }
+}
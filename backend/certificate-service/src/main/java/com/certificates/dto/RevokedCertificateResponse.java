@@ -0,0 +1,17 @@
+package com.certificates.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedCertificateResponse {
+    private String certificateNumber;
+    private Status status;
+    private String revocationReason;
+    private LocalDateTime changedAt;
+}
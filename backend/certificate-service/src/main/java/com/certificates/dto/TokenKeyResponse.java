@@ -0,0 +1,14 @@
+package com.certificates.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenKeyResponse {
+    private String keyId;
+    private String algorithm;
+    private String publicKey; // Base64 X.509 SubjectPublicKeyInfo
+}
@@ -0,0 +1,14 @@
+package com.certificates.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VerificationTokenResponse {
+    private String certificateNumber;
+    private String keyId;
+    private String token;
+}
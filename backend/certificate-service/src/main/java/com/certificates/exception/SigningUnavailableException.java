@@ -0,0 +1,7 @@
+package com.certificates.exception;
+
+public class SigningUnavailableException extends RuntimeException {
+    public SigningUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,12 +1,44 @@
 package com.certificates.repository;
 
+import com.certificates.dto.Status;
 import com.certificates.model.Certificate;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 public interface CertificateRepository extends JpaRepository<Certificate, UUID> {
     Optional<Certificate> findByCertificateNumber(String certificateNumber);
     List<Certificate> findByStudentEmail(String studentEmail);
+    List<Certificate> findByStatus(Status status);
+    List<Certificate> findByUpdatedAtGreaterThan(LocalDateTime since);
+
+    // Replication snapshot and change feed, keyset-ordered by (updatedAt, certificateId)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select c from Certificate c")
+    Stream<Certificate> streamAll();
+
+    @Query("select c from Certificate c where c.updatedAt < :until order by c.updatedAt, c.certificateId")
+    List<Certificate> findChangesUntil(@Param("until") LocalDateTime until, Pageable pageable);
+
+    @Query("select c from Certificate c where c.updatedAt >= :since and c.updatedAt < :until "
+            + "order by c.updatedAt, c.certificateId")
+    List<Certificate> findChangesFrom(@Param("since") LocalDateTime since,
+                                      @Param("until") LocalDateTime until,
+                                      Pageable pageable);
+
+    @Query("select c from Certificate c where (c.updatedAt > :since "
+            + "or (c.updatedAt = :since and c.certificateId > :afterId)) and c.updatedAt < :until "
+            + "order by c.updatedAt, c.certificateId")
+    List<Certificate> findChangesAfter(@Param("since") LocalDateTime since,
+                                       @Param("afterId") UUID afterId,
+                                       @Param("until") LocalDateTime until,
+                                       Pageable pageable);
 }
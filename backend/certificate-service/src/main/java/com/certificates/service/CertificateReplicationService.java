@@ -0,0 +1,29 @@
+package com.certificates.service;
+
+import com.certificates.dto.ReplicaCertificateResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface CertificateReplicationService {
+
+    /**
+     * Position a replica should resume the change feed from once it has applied a
+     * snapshot started now; slightly in the past so in-flight writes are not skipped.
+     */
+    LocalDateTime snapshotCursor();
+
+    /**
+     * Streams every certificate as newline-delimited JSON without loading them all at once.
+     */
+    void writeSnapshot(OutputStream out) throws IOException;
+
+    /**
+     * Certificates changed after the (updatedAt, certificateId) cursor, oldest first.
+     * A null afterId means "changed at or after since".
+     */
+    List<ReplicaCertificateResponse> listChanges(LocalDateTime since, UUID afterId, int limit);
+}
@@ -2,6 +2,7 @@ package com.certificates.service;
 
 import com.certificates.dto.*;
 import com.certificates.model.Certificate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CertificateService {
@@ -11,4 +12,5 @@ public interface CertificateService {
     Certificate getCertificateByCertificateNumber(String certificateNumber);
     Certificate updateCertificate(CertificateUpdateRequest request);
     void revokeCertificate(CertificateRevocationRequest request);
+    List<RevokedCertificateResponse> listRevocations(LocalDateTime since);
 }
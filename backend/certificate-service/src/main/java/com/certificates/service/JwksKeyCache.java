@@ -0,0 +1,124 @@
+package com.certificates.service;
+
+import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * auth-service's published token verification keys (JWKS), looked up by kid.
+ *
+ * Refreshed on a schedule. auth-service publishes its next key ahead of use, so an
+ * unknown kid is normally a forged token; it still triggers one refresh, at most every
+ * few seconds, in case keys were rolled over by hand.
+ */
+@Service
+public class JwksKeyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyCache.class);
+
+    private static final long MIN_UNKNOWN_KID_REFRESH_MS = 10_000;
+
+    @Value("${auth.service.url:http://localhost:8081}")
+    private String authServiceUrl;
+
+    @Value("${auth.jwks.refresh-interval-ms:300000}")
+    private long refreshIntervalMs;
+
+    private final RestTemplate restTemplate;
+    private final AtomicLong lastRefreshAt = new AtomicLong();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwks-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    public JwksKeyCache(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        poller.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Verification key for a kid, throwing if it is not published
+     */
+    public PublicKey resolve(String keyId) {
+        PublicKey key = keyId == null ? null : keys.get(keyId);
+        if (key == null && keyId != null) {
+            long last = lastRefreshAt.get();
+            if (System.currentTimeMillis() - last >= MIN_UNKNOWN_KID_REFRESH_MS
+                    && lastRefreshAt.compareAndSet(last, System.currentTimeMillis())) {
+                refresh();
+                key = keys.get(keyId);
+            }
+        }
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown token signing key: " + keyId);
+        }
+        return key;
+    }
+
+    @SuppressWarnings("unchecked")
+    void refresh() {
+        try {
+            Map<String, Object> jwks = restTemplate.getForObject(authServiceUrl + "/.well-known/jwks.json", Map.class);
+            Map<String, PublicKey> parsed = new HashMap<>();
+            for (Map<String, Object> jwk : (List<Map<String, Object>>) jwks.get("keys")) {
+                String keyId = (String) jwk.get("kid");
+                try {
+                    if ("EC".equals(jwk.get("kty")) && "P-256".equals(jwk.get("crv"))) {
+                        parsed.put(keyId, toPublicKey((String) jwk.get("x"), (String) jwk.get("y")));
+                    }
+                } catch (Exception e) {
+                    logger.warn("Ignoring unparseable JWKS key {}: {}", keyId, e.getMessage());
+                }
+            }
+            keys = Map.copyOf(parsed);
+            lastRefreshAt.set(System.currentTimeMillis());
+            logger.debug("Refreshed {} token verification keys", parsed.size());
+        } catch (Exception e) {
+            logger.warn("JWKS refresh failed, keeping {} cached keys: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    private static PublicKey toPublicKey(String x, String y) throws Exception {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point = new ECPoint(
+                new BigInteger(1, Base64.getUrlDecoder().decode(x)),
+                new BigInteger(1, Base64.getUrlDecoder().decode(y)));
+        return KeyFactory.getInstance("EC").generatePublic(
+                new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+    }
+}
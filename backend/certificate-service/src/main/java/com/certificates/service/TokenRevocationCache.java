@@ -0,0 +1,105 @@
+package com.certificates.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local copy of auth-service's revoked access tokens and users.
+ *
+ * Tokens are verified locally, so logout and deactivation only reach this service
+ * through this copy. It is replaced wholesale on every poll; the published set only
+ * holds unexpired access tokens and stays small. If auth-service is unreachable the
+ * last copy is kept. User revocation times are epoch milliseconds; tokens issued
+ * before them are rejected.
+ */
+@Service
+public class TokenRevocationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationCache.class);
+
+    // Checked by auth-service before it serves the feed
+    private static final String SERVICE_KEY_HEADER = "X-Service-Key";
+
+    @Value("${auth.service.url:http://localhost:8081}")
+    private String authServiceUrl;
+
+    @Value("${auth.revocations.refresh-interval-ms:5000}")
+    private long refreshIntervalMs;
+
+    @Value("${auth.revocations.api-key:}")
+    private String apiKey;
+
+    private final RestTemplate restTemplate;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-revocation-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Map<String, Long> revokedTokens = Map.of();
+    private volatile Map<Long, Long> revokedUsers = Map.of();
+
+    public TokenRevocationCache(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Revocations {
+        private Map<String, Long> tokens;
+        private Map<Long, Long> users;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        poller.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isRevoked(String jti, Long userId, Date issuedAt) {
+        if (jti != null && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+        Long revokedAt = userId == null ? null : revokedUsers.get(userId);
+        return revokedAt != null && (issuedAt == null || issuedAt.getTime() < revokedAt);
+    }
+
+    void refresh() {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            if (apiKey != null && !apiKey.isBlank()) {
+                headers.set(SERVICE_KEY_HEADER, apiKey);
+            }
+            Revocations revocations = restTemplate.exchange(authServiceUrl + "/api/auth/revocations", HttpMethod.GET,
+                    new HttpEntity<>(headers), Revocations.class).getBody();
+            if (revocations != null) {
+                revokedTokens = revocations.getTokens() == null ? Map.of() : Map.copyOf(revocations.getTokens());
+                revokedUsers = revocations.getUsers() == null ? Map.of() : Map.copyOf(revocations.getUsers());
+            }
+        } catch (Exception e) {
+            logger.warn("Token revocation refresh failed, keeping {} tokens and {} users: {}",
+                    revokedTokens.size(), revokedUsers.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        poller.shutdownNow();
+    }
+}
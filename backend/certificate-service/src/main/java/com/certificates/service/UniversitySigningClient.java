@@ -0,0 +1,65 @@
+package com.certificates.service;
+
+import com.certificates.exception.SigningUnavailableException;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+/**
+ * Has university-service sign a certificate's canonical hash with the issuing university's
+ * private key, which never leaves university-service. Verification-service checks the
+ * signature against the university's public key.
+ */
+@Service
+@RequiredArgsConstructor
+public class UniversitySigningClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniversitySigningClient.class);
+
+    public static final String HEADER = "X-Signing-Key";
+
+    @Value("${university.service.url:http://localhost:3002}")
+    private String universityServiceUrl;
+
+    @Value("${university.signing.api-key:}")
+    private String signingKey;
+
+    private final RestTemplate restTemplate;
+
+    /**
+     * Base64 SHA256withRSA signature of the hash; fails rather than leaving a certificate unsigned
+     */
+    public String sign(String universityId, String certificateHash) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HEADER, signingKey);
+        try {
+            SignatureResponse response = restTemplate.postForObject(
+                    universityServiceUrl + "/api/universities/{id}/signatures",
+                    new HttpEntity<>(Map.of("hash", certificateHash), headers),
+                    SignatureResponse.class, universityId);
+            if (response == null || response.getSignature() == null) {
+                throw new SigningUnavailableException("University-service returned no signature", null);
+            }
+            return response.getSignature();
+        } catch (RestClientException e) {
+            logger.error("Failed to sign certificate hash for university {}: {}", universityId, e.getMessage());
+            throw new SigningUnavailableException("Could not sign certificate for university " + universityId, e);
+        }
+    }
+
+    @Data
+    static class SignatureResponse {
+        private String universityId;
+        private String algorithm;
+        private String signature;
+    }
+}
@@ -0,0 +1,20 @@
+package com.certificates.service;
+
+import com.certificates.dto.TokenKeyResponse;
+import com.certificates.dto.VerificationTokenResponse;
+
+import java.util.List;
+
+public interface VerificationTokenService {
+
+    /**
+     * Issues a compact signed token (JWS, ES256) carrying the certificate's key fields,
+     * meant to be encoded as a QR code and verified offline.
+     */
+    VerificationTokenResponse issueToken(String certificateNumber);
+
+    /**
+     * Public keys verifiers use to check issued tokens, identified by key id.
+     */
+    List<TokenKeyResponse> getTokenKeys();
+}
@@ -0,0 +1,71 @@
+package com.certificates.service.impl;
+
+import com.certificates.dto.ReplicaCertificateResponse;
+import com.certificates.model.Certificate;
+import com.certificates.repository.CertificateRepository;
+import com.certificates.service.CertificateReplicationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CertificateReplicationServiceImpl implements CertificateReplicationService {
+
+    private final CertificateRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // Rows younger than this may belong to transactions that have not committed yet
+    @Value("${certificate.replication.settle-seconds:2}")
+    private long settleSeconds;
+
+    @Override
+    public LocalDateTime snapshotCursor() {
+        return LocalDateTime.now().minusSeconds(settleSeconds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeSnapshot(OutputStream out) throws IOException {
+        try (Stream<Certificate> certificates = repository.streamAll()) {
+            Iterator<Certificate> iterator = certificates.iterator();
+            while (iterator.hasNext()) {
+                Certificate cert = iterator.next();
+                out.write(objectMapper.writeValueAsBytes(ReplicaCertificateResponse.from(cert)));
+                out.write('\n');
+                // Keep the persistence context from growing with the whole table
+                entityManager.detach(cert);
+            }
+        }
+        out.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReplicaCertificateResponse> listChanges(LocalDateTime since, UUID afterId, int limit) {
+        LocalDateTime until = LocalDateTime.now().minusSeconds(settleSeconds);
+        PageRequest page = PageRequest.of(0, limit);
+        List<Certificate> changes;
+        if (since == null) {
+            changes = repository.findChangesUntil(until, page);
+        } else if (afterId == null) {
+            changes = repository.findChangesFrom(since, until, page);
+        } else {
+            changes = repository.findChangesAfter(since, afterId, until, page);
+        }
+        return changes.stream().map(ReplicaCertificateResponse::from).toList();
+    }
+}
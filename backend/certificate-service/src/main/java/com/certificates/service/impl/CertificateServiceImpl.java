@@ -6,12 +6,15 @@ import com.certificates.model.Certificate;
 import com.certificates.repository.CertificateRepository;
 import com.certificates.service.AuthServiceClient;
 import com.certificates.service.CertificateService;
+import com.certificates.service.UniversitySigningClient;
 import com.certificates.dto.Status;
+import com.certificates.util.CertificateHashUtil;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -20,6 +23,7 @@ public class CertificateServiceImpl implements CertificateService {
     private static final Logger logger = LoggerFactory.getLogger(CertificateServiceImpl.class);
     private final CertificateRepository repository;
     private final AuthServiceClient authServiceClient;
+    private final UniversitySigningClient signingClient;
 
     @Override
     public Certificate issueCertificate(CertificateIssueRequest request, Long universityUserId) {
@@ -61,11 +65,10 @@ public class CertificateServiceImpl implements CertificateService {
                 .cgpa(request.getCgpa())
                 .issueDate(request.getIssueDate())
                 .completionDate(request.getCompletionDate())
-                .certificateHash(UUID.randomUUID().toString().replace("-", ""))
-                .digitalSignature("mock-digital-signature")
                 .verificationCode(UUID.randomUUID().toString().substring(0, 6))
                 .status(Status.ACTIVE)
                 .build();
+        sign(cert);
         
         Certificate savedCert = repository.save(cert);
         logger.info("Certificate issued successfully - Certificate Number: {}, Student ID: {}, University ID: {}", 
@@ -97,9 +100,19 @@ public class CertificateServiceImpl implements CertificateService {
         if (request.getGrade() != null) cert.setGrade(request.getGrade());
         if (request.getCgpa() != null) cert.setCgpa(request.getCgpa());
         if (request.getSpecialization() != null) cert.setSpecialization(request.getSpecialization());
+        sign(cert);
         return repository.save(cert);
     }
 
+    /**
+     * Hash the canonical content and have the issuing university sign it; any change to the
+     * hashed fields must go through here, or verification reports the certificate as tampered
+     */
+    private void sign(Certificate cert) {
+        cert.setCertificateHash(CertificateHashUtil.computeHash(cert));
+        cert.setDigitalSignature(signingClient.sign(cert.getUniversityId(), cert.getCertificateHash()));
+    }
+
     @Override
     public Certificate getCertificateByCertificateNumber(String certificateNumber) {
         return repository.findByCertificateNumber(certificateNumber)
@@ -113,4 +126,16 @@ public class CertificateServiceImpl implements CertificateService {
         cert.setRevocationReason(request.getReason());
         repository.save(cert);
     }
+
+    @Override
+    public List<RevokedCertificateResponse> listRevocations(LocalDateTime since) {
+        // Full list of revoked certificates first, then every change so reinstatements are seen too
+        List<Certificate> changed = since == null
+                ? repository.findByStatus(Status.REVOKED)
+                : repository.findByUpdatedAtGreaterThan(since);
+        return changed.stream()
+                .map(cert -> new RevokedCertificateResponse(
+                        cert.getCertificateNumber(), cert.getStatus(), cert.getRevocationReason(), cert.getUpdatedAt()))
+                .toList();
+    }
 }
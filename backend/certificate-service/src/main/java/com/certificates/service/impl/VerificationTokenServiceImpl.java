@@ -0,0 +1,108 @@
+package com.certificates.service.impl;
+
+import com.certificates.dto.Status;
+import com.certificates.dto.TokenKeyResponse;
+import com.certificates.dto.VerificationTokenResponse;
+import com.certificates.exception.InvalidRequestException;
+import com.certificates.model.Certificate;
+import com.certificates.service.CertificateService;
+import com.certificates.service.VerificationTokenService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class VerificationTokenServiceImpl implements VerificationTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationTokenServiceImpl.class);
+
+    private final CertificateService certificateService;
+
+    @Value("${certificate.token.private-key:}")
+    private String configuredPrivateKey;
+
+    @Value("${certificate.token.public-key:}")
+    private String configuredPublicKey;
+
+    private PrivateKey signingKey;
+    private TokenKeyResponse publishedKey;
+
+    @PostConstruct
+    public void init() {
+        try {
+            PublicKey publicKey;
+            if (!configuredPrivateKey.isBlank() && !configuredPublicKey.isBlank()) {
+                KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                signingKey = keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getDecoder().decode(configuredPrivateKey)));
+                publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(configuredPublicKey)));
+            } else {
+                logger.warn("No certificate.token keys configured, generating an ephemeral signing key; "
+                        + "tokens issued now stop verifying after a restart");
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                KeyPair pair = generator.generateKeyPair();
+                signingKey = pair.getPrivate();
+                publicKey = pair.getPublic();
+            }
+
+            byte[] encoded = publicKey.getEncoded();
+            String keyId = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(encoded), 0, 8);
+            publishedKey = new TokenKeyResponse(keyId, SignatureAlgorithm.ES256.getValue(),
+                    Base64.getEncoder().encodeToString(encoded));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialise verification token signing key", e);
+        }
+    }
+
+    @Override
+    public VerificationTokenResponse issueToken(String certificateNumber) {
+        Certificate cert = certificateService.getCertificateByCertificateNumber(certificateNumber);
+        if (cert.getStatus() != Status.ACTIVE) {
+            throw new InvalidRequestException("Tokens can only be issued for active certificates");
+        }
+
+        // Short claim names keep the token small enough for a low-density QR code
+        String token = Jwts.builder()
+                .setHeaderParam("kid", publishedKey.getKeyId())
+                .setSubject(cert.getCertificateNumber())
+                .claim("uni", cert.getUniversityId())
+                .claim("stu", cert.getStudentId())
+                .claim("nam", cert.getStudentName())
+                .claim("crs", cert.getCourseName())
+                .claim("grd", cert.getGrade())
+                .claim("idt", cert.getIssueDate())
+                .claim("h", cert.getCertificateHash())
+                .setIssuedAt(new Date())
+                .signWith(signingKey, SignatureAlgorithm.ES256)
+                .compact();
+
+        return new VerificationTokenResponse(cert.getCertificateNumber(), publishedKey.getKeyId(), token);
+    }
+
+    @Override
+    public List<TokenKeyResponse> getTokenKeys() {
+        return List.of(publishedKey);
+    }
+}
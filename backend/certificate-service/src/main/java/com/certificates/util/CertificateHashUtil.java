@@ -0,0 +1,54 @@
+package com.certificates.util;
+
+import com.certificates.model.Certificate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Canonical content hash of a certificate.
+ *
+ * The canonical form is the verifiable fields joined with '\n' in a fixed order,
+ * nulls as empty strings, hashed with SHA-256 and hex encoded. Verification-service
+ * recomputes the same form (CertificateIntegrityVerifier), so the two must change together;
+ * both are tested against backend/shared/fixtures/certificate-hash.json.
+ */
+public final class CertificateHashUtil {
+
+    private CertificateHashUtil() {
+    }
+
+    public static String computeHash(Certificate certificate) {
+        return sha256Hex(canonicalContent(certificate));
+    }
+
+    public static String canonicalContent(Certificate certificate) {
+        return String.join("\n",
+                nullToEmpty(certificate.getCertificateNumber()),
+                nullToEmpty(certificate.getStudentId()),
+                nullToEmpty(certificate.getUniversityId()),
+                nullToEmpty(certificate.getStudentName()),
+                nullToEmpty(certificate.getStudentEmail()),
+                nullToEmpty(certificate.getCourseName()),
+                nullToEmpty(certificate.getSpecialization()),
+                nullToEmpty(certificate.getGrade()),
+                certificate.getCgpa() == null ? "" : certificate.getCgpa().toString(),
+                nullToEmpty(certificate.getIssueDate()),
+                nullToEmpty(certificate.getCompletionDate()));
+    }
+
+    private static String sha256Hex(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
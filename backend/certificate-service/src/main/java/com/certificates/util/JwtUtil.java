@@ -1,18 +1,46 @@
 package com.certificates.util;
 
+import com.certificates.service.JwksKeyCache;
+import com.certificates.service.TokenRevocationCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.security.Key;
+import java.util.Date;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
-    private String secretKey;
+    // auth-service's issue time to the millisecond; iat is whole seconds
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
+    // Request attribute holding the claims of the token already verified in this request
+    private static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".claims";
+
+    // The parser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser parser;
+
+    private final TokenRevocationCache revocationCache;
+
+    public JwtUtil(JwksKeyCache jwksKeyCache, TokenRevocationCache revocationCache) {
+        this.revocationCache = revocationCache;
+        // Tokens are ES256, checked against auth-service's published keys by kid
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return jwksKeyCache.resolve(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     public String extractUsername(String token) {
         return extractAllClaims(token).getSubject();
@@ -34,17 +62,41 @@ public class JwtUtil {
         return extractAllClaims(token).get("fullName", String.class);
     }
 
+    /**
+     * Verify the token once per request; repeated lookups of the same token reuse the parsed claims
+     */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return verify(token);
+        }
+        if (request.getAttribute(CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof ParsedToken parsed
+                && parsed.token().equals(token)) {
+            return parsed.claims();
+        }
+        Claims claims = verify(token);
+        request.setAttribute(CLAIMS_ATTRIBUTE, new ParsedToken(token, claims), RequestAttributes.SCOPE_REQUEST);
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if ("refresh".equals(claims.get("typ", String.class))) {
+            throw new JwtException("Refresh tokens cannot be used for API access");
+        }
+        Object userId = claims.get("userId");
+        if (revocationCache.isRevoked(claims.getId(),
+                userId instanceof Number number ? number.longValue() : null, issuedAt(claims))) {
+            throw new JwtException("Token has been revoked");
+        }
+        return claims;
+    }
+
+    private static Date issuedAt(Claims claims) {
+        Object millis = claims.get(ISSUED_AT_MILLIS_CLAIM);
+        return millis instanceof Number number ? new Date(number.longValue()) : claims.getIssuedAt();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record ParsedToken(String token, Claims claims) {
     }
 }
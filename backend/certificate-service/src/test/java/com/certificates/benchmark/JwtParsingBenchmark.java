@@ -0,0 +1,139 @@
+package com.certificates.benchmark;
+
+import com.certificates.service.JwksKeyCache;
+import com.certificates.service.TokenRevocationCache;
+import com.certificates.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request that reads the user id, email and role from its token,
+ * as CertificateController does.
+ *
+ * {@code parserPerLookup} builds a parser and verifies the ES256 signature for each claim read;
+ * {@code sharedParser} reuses {@link JwtUtil}'s parser but still verifies on every read (no
+ * request bound); {@code sharedParserRequestScoped} is the request path, where the first read
+ * verifies and the other two reuse the claims stored on the request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String KEY_ID = "bench-key";
+
+    private PublicKey publicKey;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        publicKey = keyPair.getPublic();
+
+        // Key and revocation lookups stay local: a fixed key, and an empty revocation copy
+        JwksKeyCache keyCache = new JwksKeyCache(new RestTemplate()) {
+            @Override
+            public PublicKey resolve(String keyId) {
+                return publicKey;
+            }
+        };
+        jwtUtil = new JwtUtil(keyCache, new TokenRevocationCache(new RestTemplate()));
+
+        // Same header and claims auth-service puts in an access token
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setSubject("registrar@uni.example")
+                .setId("2f1c7a9e-5b3d-4e6f-8a0c-1b2d3e4f5a6b")
+                .claim("userId", 42)
+                .claim("role", "UNIVERSITY")
+                .claim("fullName", "Registrar Office")
+                .claim("iatMs", now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void parserPerLookup(Blackhole blackhole) {
+        blackhole.consume(parse().get("userId"));
+        blackhole.consume(parse().getSubject());
+        blackhole.consume(parse().get("role", String.class));
+    }
+
+    @Benchmark
+    public void sharedParser(Blackhole blackhole) {
+        RequestContextHolder.resetRequestAttributes();
+        readClaims(blackhole);
+    }
+
+    @Benchmark
+    public void sharedParserRequestScoped(Blackhole blackhole) {
+        ServletRequestAttributes request = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(request);
+        try {
+            readClaims(blackhole);
+        } finally {
+            request.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void readClaims(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.extractUserId(token));
+        blackhole.consume(jwtUtil.extractUsername(token));
+        blackhole.consume(jwtUtil.extractRole(token));
+    }
+
+    private Claims parse() {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return publicKey;
+                    }
+                })
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,51 @@
+package com.certificates.util;
+
+import com.certificates.model.Certificate;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The canonical form is checked against the fixtures verification-service's
+ * CertificateIntegrityVerifier is tested with, so the two copies cannot drift apart.
+ */
+class CertificateHashUtilTest {
+
+    static final Path FIXTURES = Path.of("../shared/fixtures/certificate-hash.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void matchesSharedFixtures() throws IOException {
+        JsonNode cases = objectMapper.readTree(FIXTURES.toFile()).get("cases");
+        assertThat(cases).isNotEmpty();
+        for (JsonNode fixture : cases) {
+            Certificate certificate = objectMapper.treeToValue(fixture.get("certificate"), Certificate.class);
+            String description = fixture.get("description").asText();
+
+            assertThat(CertificateHashUtil.canonicalContent(certificate))
+                    .as(description)
+                    .isEqualTo(fixture.get("canonicalContent").asText());
+            assertThat(CertificateHashUtil.computeHash(certificate))
+                    .as(description)
+                    .isEqualTo(fixture.get("certificateHash").asText());
+        }
+    }
+
+    @Test
+    void hashChangesWithAnyHashedField() throws IOException {
+        JsonNode fixture = objectMapper.readTree(FIXTURES.toFile()).get("cases").get(0);
+        Certificate certificate = objectMapper.treeToValue(fixture.get("certificate"), Certificate.class);
+        certificate.setGrade("A+");
+
+        assertThat(CertificateHashUtil.computeHash(certificate))
+                .isNotEqualTo(fixture.get("certificateHash").asText());
+    }
+}
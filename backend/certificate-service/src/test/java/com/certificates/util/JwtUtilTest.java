@@ -0,0 +1,147 @@
+package com.certificates.util;
+
+import com.certificates.service.JwksKeyCache;
+import com.certificates.service.TokenRevocationCache;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Access tokens are accepted only when signed with a key auth-service publishes in its JWKS
+ * under the token's kid.
+ */
+class JwtUtilTest {
+
+    private static final String AUTH_URL = "http://auth-service.test";
+    private static final String JWKS_URL = AUTH_URL + "/.well-known/jwks.json";
+
+    private KeyPair publishedKey;
+    private MockRestServiceServer authService;
+    private JwksKeyCache keyCache;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        publishedKey = generateKey();
+        RestTemplate restTemplate = new RestTemplate();
+        authService = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        keyCache = new JwksKeyCache(restTemplate);
+        ReflectionTestUtils.setField(keyCache, "authServiceUrl", AUTH_URL);
+        // Revocations are not synced in these tests: the copy stays empty
+        jwtUtil = new JwtUtil(keyCache, new TokenRevocationCache(new RestTemplate()));
+    }
+
+    @Test
+    void acceptsTokenSignedWithPublishedKey() {
+        authService.expect(ExpectedCount.once(), requestTo(JWKS_URL)).andRespond(jwks("key-1", publishedKey));
+        ReflectionTestUtils.invokeMethod(keyCache, "refresh");
+
+        String token = token("key-1", publishedKey);
+
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("registrar@uni.example");
+        assertThat(jwtUtil.extractUserId(token)).isEqualTo(42L);
+        authService.verify();
+    }
+
+    @Test
+    void rejectsUnknownKidAfterOneRefresh() throws Exception {
+        authService.expect(ExpectedCount.twice(), requestTo(JWKS_URL)).andRespond(jwks("key-1", publishedKey));
+        ReflectionTestUtils.invokeMethod(keyCache, "refresh");
+        // Make the unknown kid eligible for a refresh right away
+        ((AtomicLong) ReflectionTestUtils.getField(keyCache, "lastRefreshAt")).set(0);
+
+        String forged = token("key-unknown", generateKey());
+
+        assertThatThrownBy(() -> jwtUtil.extractUsername(forged)).isInstanceOf(JwtException.class)
+                .hasMessageContaining("Unknown token signing key");
+        // A second attempt right after does not hit auth-service again
+        assertThatThrownBy(() -> jwtUtil.extractUsername(forged)).isInstanceOf(JwtException.class);
+        authService.verify();
+    }
+
+    @Test
+    void rejectsTokenWithoutKid() {
+        authService.expect(ExpectedCount.once(), requestTo(JWKS_URL)).andRespond(jwks("key-1", publishedKey));
+        ReflectionTestUtils.invokeMethod(keyCache, "refresh");
+
+        String token = Jwts.builder()
+                .setSubject("registrar@uni.example")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(publishedKey.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        assertThatThrownBy(() -> jwtUtil.extractUsername(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKeyUnderAPublishedKid() throws Exception {
+        authService.expect(ExpectedCount.once(), requestTo(JWKS_URL)).andRespond(jwks("key-1", publishedKey));
+        ReflectionTestUtils.invokeMethod(keyCache, "refresh");
+
+        String forged = token("key-1", generateKey());
+
+        assertThatThrownBy(() -> jwtUtil.extractUsername(forged)).isInstanceOf(JwtException.class);
+    }
+
+    private static String token(String keyId, KeyPair key) {
+        // Same header and claims auth-service puts in an access token
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setSubject("registrar@uni.example")
+                .setId("2f1c7a9e-5b3d-4e6f-8a0c-1b2d3e4f5a6b")
+                .claim("userId", 42)
+                .claim("role", "UNIVERSITY")
+                .claim("iatMs", now)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+
+    private static ResponseCreator jwks(String keyId, KeyPair key) {
+        ECPublicKey publicKey = (ECPublicKey) key.getPublic();
+        String body = "{\"keys\":[{\"kty\":\"EC\",\"crv\":\"P-256\",\"alg\":\"ES256\",\"use\":\"sig\","
+                + "\"kid\":\"" + keyId + "\","
+                + "\"x\":\"" + coordinate(publicKey.getW().getAffineX()) + "\","
+                + "\"y\":\"" + coordinate(publicKey.getW().getAffineY()) + "\"}]}";
+        return withSuccess(body, MediaType.APPLICATION_JSON);
+    }
+
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static KeyPair generateKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+}
@@ -29,12 +29,30 @@ public class UniversityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * All universities in ID order; publicKey is left out unless includePublicKey=true
+     */
     @GetMapping
     public ResponseEntity<List<UniversityResponse>> listUniversities(
-            @RequestParam(required = false) Boolean verified) {
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(defaultValue = "false") boolean includePublicKey) {
 
         logger.info("Listing universities. Verified filter: {}", verified);
-        return ResponseEntity.ok(service.listUniversities(verified));
+        return ResponseEntity.ok(service.listUniversities(verified, includePublicKey));
+    }
+
+    /**
+     * Keyset-paged list in ID order; pass the returned nextCursor to get the following page
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<UniversityPageResponse> scrollUniversities(
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(defaultValue = "false") boolean includePublicKey,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String cursor) {
+
+        logger.info("Scrolling universities. Verified filter: {}, size: {}", verified, size);
+        return ResponseEntity.ok(service.scrollUniversities(verified, includePublicKey, size, cursor));
     }
 
     @GetMapping("/{id}")
@@ -75,10 +93,35 @@ public class UniversityController {
         return ResponseEntity.ok(service.unverifyUniversity(id));
     }
 
+    /**
+     * Apply several verify/unverify/update/delete operations in one request, e.g. for bulk
+     * admin actions synced from auth-service
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UniversityBatchResult>> applyBatch(
+            @Validated @RequestBody UniversityBatchRequest req) {
+
+        logger.info("Applying batch of {} university operations", req.getOperations().size());
+        return ResponseEntity.ok(service.applyBatch(req.getOperations()));
+    }
+
     @GetMapping("/{id}/public-key")
     public ResponseEntity<PublicKeyResponse> getUniversityPublicKey(@PathVariable String id) {
 
         logger.info("Getting public key for university {}", id);
         return ResponseEntity.ok(service.getUniversityPublicKey(id));
     }
+
+    /**
+     * Sign a certificate's canonical hash with the university's private key; called by
+     * certificate-service with the shared X-Signing-Key when it issues or updates a certificate
+     */
+    @PostMapping("/{id}/signatures")
+    public ResponseEntity<SignatureResponse> signCertificateHash(
+            @PathVariable String id,
+            @Validated @RequestBody SignatureRequest req) {
+
+        logger.info("Signing certificate hash for university {}", id);
+        return ResponseEntity.ok(service.signCertificateHash(id, req.getHash()));
+    }
 }
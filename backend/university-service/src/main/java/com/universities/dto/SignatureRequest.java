@@ -0,0 +1,13 @@
+package com.universities.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class SignatureRequest {
+
+    @NotBlank
+    @Pattern(regexp = "[0-9a-f]{64}", message = "must be a hex-encoded SHA-256 hash")
+    private String hash; // Canonical certificate hash from certificate-service
+}
@@ -0,0 +1,11 @@
+package com.universities.dto;
+
+import lombok.Data;
+
+@Data
+public class SignatureResponse {
+
+    private String universityId;
+    private String algorithm;
+    private String signature; // Base64
+}
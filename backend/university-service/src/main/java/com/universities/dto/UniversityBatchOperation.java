@@ -0,0 +1,33 @@
+package com.universities.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class UniversityBatchOperation {
+
+    public enum Action {
+        VERIFY,
+        UNVERIFY,
+        UPDATE,
+        DELETE
+    }
+
+    @NotBlank
+    private String universityId;
+
+    @NotNull
+    private Action action;
+
+    // UPDATE only; null fields are left unchanged
+    private String universityName;
+
+    @Email
+    private String email;
+
+    private String address;
+
+    private String phone;
+}
@@ -0,0 +1,17 @@
+package com.universities.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UniversityBatchRequest {
+
+    // Applied in order, so several operations on one university behave like the single calls in sequence
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid UniversityBatchOperation> operations;
+}
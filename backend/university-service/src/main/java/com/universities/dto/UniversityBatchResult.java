@@ -0,0 +1,19 @@
+package com.universities.dto;
+
+import lombok.Data;
+
+@Data
+public class UniversityBatchResult {
+
+    public enum Status {
+        APPLIED,
+        UNCHANGED, // already in the requested state
+        NOT_FOUND,
+        REJECTED
+    }
+
+    private String universityId;
+    private UniversityBatchOperation.Action action;
+    private Status status;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.universities.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of universities; pass nextCursor back as cursor for the following page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniversityPageResponse {
+
+    private List<UniversityResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // null on the last page
+}
@@ -2,12 +2,14 @@ package com.universities.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Data
 public class UniversityRegisterRequest {
 
     @NotBlank
+    @Pattern(regexp = "[A-Za-z0-9_-]{1,50}", message = "must be 1-50 letters, digits, '-' or '_'")
     private String universityId; // UID from auth service - must be provided during registration
 
     @NotBlank
@@ -1,10 +1,13 @@
 package com.universities.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class UniversityResponse {
 
     private String universityId; // UID from auth service
@@ -13,7 +16,23 @@ public class UniversityResponse {
     private String address;
     private String phone;
     private boolean verified;
+    @JsonInclude(JsonInclude.Include.NON_NULL) // left out of lists unless includePublicKey=true
     private String publicKey;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Row of a list query that does not select the publicKey column
+     */
+    public UniversityResponse(String universityId, String universityName, String email, String address,
+                              String phone, boolean verified, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.universityId = universityId;
+        this.universityName = universityName;
+        this.email = email;
+        this.address = address;
+        this.phone = phone;
+        this.verified = verified;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
@@ -6,6 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+    // Verified-filtered lists, in keyset (ID) order
+    @Index(name = "idx_university_verified_id", columnList = "verified, university_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,8 +1,13 @@
 package com.universities.repository;
 
+import com.universities.dto.UniversityResponse;
 import com.universities.model.University;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UniversityRepository extends JpaRepository<University, String> {
@@ -10,4 +15,24 @@ public interface UniversityRepository extends JpaRepository<University, String>
     Optional<University> findByUniversityName(String universityName);
 
     Optional<University> findByEmail(String email);
+
+    // List rows in ID order after a keyset position ("" for the start), without the publicKey column
+
+    @Query("SELECT new com.universities.dto.UniversityResponse(u.universityId, u.universityName, u.email, u.address, "
+            + "u.phone, u.verified, u.createdAt, u.updatedAt) FROM University u "
+            + "WHERE u.universityId > :after ORDER BY u.universityId")
+    List<UniversityResponse> findSummariesAfter(@Param("after") String after, Limit limit);
+
+    @Query("SELECT new com.universities.dto.UniversityResponse(u.universityId, u.universityName, u.email, u.address, "
+            + "u.phone, u.verified, u.createdAt, u.updatedAt) FROM University u "
+            + "WHERE u.verified = :verified AND u.universityId > :after ORDER BY u.universityId")
+    List<UniversityResponse> findSummariesByVerifiedAfter(@Param("verified") boolean verified,
+                                                          @Param("after") String after, Limit limit);
+
+    // Same positions with whole rows, for callers that need the public keys
+
+    List<University> findByUniversityIdGreaterThanOrderByUniversityIdAsc(String after, Limit limit);
+
+    List<University> findByVerifiedAndUniversityIdGreaterThanOrderByUniversityIdAsc(boolean verified, String after,
+                                                                                  Limit limit);
 }
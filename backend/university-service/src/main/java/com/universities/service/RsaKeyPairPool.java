@@ -0,0 +1,102 @@
+package com.universities.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ready-made RSA key pairs for new universities.
+ *
+ * Generating an RSA-2048 pair takes hundreds of milliseconds of CPU with a long tail, so
+ * background threads keep up to pool-size pairs ready and registration only takes one. The
+ * generators run at low priority and block while the pool is full. If registrations drain
+ * the pool faster than it refills, the caller generates its own pair, so a burst degrades
+ * to the old latency instead of failing.
+ */
+@Slf4j
+@Service
+public class RsaKeyPairPool {
+
+    private static final int KEY_SIZE = 2048;
+
+    private final BlockingQueue<KeyPair> ready;
+    private final ExecutorService generators;
+
+    public RsaKeyPairPool(
+            @Value("${university.keys.pool-size:16}") int poolSize,
+            @Value("${university.keys.generator-threads:1}") int generatorThreads) {
+        if (poolSize <= 0 || generatorThreads <= 0) {
+            ready = null;
+            generators = null;
+            return;
+        }
+        ready = new ArrayBlockingQueue<>(poolSize);
+        AtomicInteger threadCount = new AtomicInteger();
+        generators = Executors.newFixedThreadPool(generatorThreads, runnable -> {
+            Thread thread = new Thread(runnable, "rsa-key-generator-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        for (int i = 0; i < generatorThreads; i++) {
+            generators.submit(this::refill);
+        }
+        log.info("RSA key pool started: {} pairs, {} generator threads", poolSize, generatorThreads);
+    }
+
+    /**
+     * A fresh key pair, from the pool when one is ready
+     */
+    public KeyPair take() {
+        KeyPair pair = ready == null ? null : ready.poll();
+        if (pair == null) {
+            if (ready != null) {
+                log.warn("RSA key pool is empty, generating a key pair on the request thread");
+            }
+            return newGenerator().generateKeyPair();
+        }
+        return pair;
+    }
+
+    public int available() {
+        return ready == null ? 0 : ready.size();
+    }
+
+    private void refill() {
+        KeyPairGenerator generator = newGenerator();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ready.put(generator.generateKeyPair());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static KeyPairGenerator newGenerator() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE);
+            return generator;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("RSA is not available", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (generators != null) {
+            generators.shutdownNow();
+        }
+    }
+}
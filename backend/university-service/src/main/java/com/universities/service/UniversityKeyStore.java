@@ -0,0 +1,125 @@
+package com.universities.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Local keystore of university RSA private keys: one password-protected PKCS12 file per
+ * university in the keystore directory, named and aliased by its university ID.
+ *
+ * One file per university keeps the cost of adding a key constant; a single keystore would
+ * be rewritten in full on every registration. Keys are stored as PKCS#8 bytes (a PKCS12
+ * private key entry would need a certificate, which universities do not have), so they can
+ * be listed with keytool and read back with {@link #findPrivateKey}. Files are written
+ * through a temporary file and an atomic move, so a crash never leaves a half-written key.
+ * The password has no default: the service refuses to start without one, or with the
+ * well-known "changeit".
+ */
+@Slf4j
+@Service
+public class UniversityKeyStore {
+
+    // University IDs become file names
+    private static final Pattern SAFE_ID = Pattern.compile("[A-Za-z0-9_-]{1,50}");
+
+    private static final String WELL_KNOWN_PASSWORD = "changeit";
+
+    private final Path directory;
+    private final String password;
+
+    public UniversityKeyStore(
+            @Value("${university.keys.keystore-dir:./data/university-keys}") Path directory,
+            @Value("${university.keys.keystore-password:}") String password) {
+        if (password.isBlank() || password.equals(WELL_KNOWN_PASSWORD)) {
+            throw new IllegalStateException("university.keys.keystore-password (UNIVERSITY_KEYSTORE_PASSWORD) "
+                    + "must be set to a secret value");
+        }
+        this.directory = directory;
+        this.password = password;
+    }
+
+    public void storePrivateKey(String universityId, PrivateKey privateKey) {
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, null);
+            keyStore.setEntry(universityId,
+                    new KeyStore.SecretKeyEntry(new SecretKeySpec(privateKey.getEncoded(), privateKey.getAlgorithm())),
+                    new KeyStore.PasswordProtection(password.toCharArray()));
+
+            Path file = file(universityId);
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, universityId, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    keyStore.store(out, password.toCharArray());
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to store private key for university " + universityId, e);
+        }
+    }
+
+    public Optional<PrivateKey> findPrivateKey(String universityId) {
+        Path file = file(universityId);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, password.toCharArray());
+            Key key = keyStore.getKey(universityId, password.toCharArray());
+            if (key == null) {
+                return Optional.empty();
+            }
+            return Optional.of(KeyFactory.getInstance(key.getAlgorithm())
+                    .generatePrivate(new PKCS8EncodedKeySpec(key.getEncoded())));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to read private key for university " + universityId, e);
+        }
+    }
+
+    /**
+     * Remove a deleted university's key file. The record is already gone, so a file that cannot
+     * be removed is only logged, with its path, for manual cleanup.
+     */
+    public void deletePrivateKey(String universityId) {
+        if (!SAFE_ID.matcher(universityId).matches()) {
+            return; // Never had a key file
+        }
+        Path file = file(universityId);
+        try {
+            if (Files.deleteIfExists(file)) {
+                log.info("Deleted private key of university {}", universityId);
+            }
+        } catch (IOException e) {
+            log.error("Failed to delete private key file {} of deleted university {}", file, universityId, e);
+        }
+    }
+
+    private Path file(String universityId) {
+        if (!SAFE_ID.matcher(universityId).matches()) {
+            throw new IllegalArgumentException("Invalid university ID for key storage: " + universityId);
+        }
+        return directory.resolve(universityId + ".p12");
+    }
+}
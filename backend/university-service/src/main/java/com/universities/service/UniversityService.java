@@ -8,7 +8,9 @@ public interface UniversityService {
 
     UniversityResponse registerUniversity(UniversityRegisterRequest request);
 
-    List<UniversityResponse> listUniversities(Boolean verified);
+    List<UniversityResponse> listUniversities(Boolean verified, boolean includePublicKey);
+
+    UniversityPageResponse scrollUniversities(Boolean verified, boolean includePublicKey, int size, String cursor);
 
     UniversityResponse getUniversity(String id);
 
@@ -21,4 +23,8 @@ public interface UniversityService {
     VerifyUniversityResponse unverifyUniversity(String id);
 
     PublicKeyResponse getUniversityPublicKey(String id);
+
+    SignatureResponse signCertificateHash(String id, String hash);
+
+    List<UniversityBatchResult> applyBatch(List<UniversityBatchOperation> operations);
 }
@@ -5,16 +5,31 @@ import com.universities.exception.InvalidRequestException;
 import com.universities.exception.ResourceNotFoundException;
 import com.universities.model.University;
 import com.universities.repository.UniversityRepository;
+import com.universities.service.RsaKeyPairPool;
+import com.universities.service.UniversityKeyStore;
 import com.universities.service.UniversityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyPair;
-import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,12 +37,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UniversityServiceImpl implements UniversityService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // Verification-service checks certificate signatures with the same algorithm
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
     private final UniversityRepository repository;
+    private final RsaKeyPairPool keyPairPool;
+    private final UniversityKeyStore keyStore;
 
     @Override
+    @Transactional
     public UniversityResponse registerUniversity(UniversityRegisterRequest request) {
         log.info("Registering university: {}", request.getUniversityName());
 
+        // Saving over an existing ID would replace that university's record and keys
+        if (repository.existsById(request.getUniversityId())) {
+            throw new InvalidRequestException("University ID already exists");
+        }
+
         repository.findByUniversityName(request.getUniversityName())
                 .ifPresent(u -> {
                     throw new InvalidRequestException("University name already exists");
@@ -38,7 +66,8 @@ public class UniversityServiceImpl implements UniversityService {
                     throw new InvalidRequestException("University email already exists");
                 });
 
-        String publicKey = generatePublicKey();
+        KeyPair keyPair = keyPairPool.take();
+        String publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
 
         University university = University.builder()
                 .universityId(request.getUniversityId())
@@ -50,27 +79,63 @@ public class UniversityServiceImpl implements UniversityService {
                 .verified(false)
                 .build();
 
-        University saved = repository.save(university);
+        // Insert first, so a failed or concurrent duplicate insert never writes a key file; the
+        // key is stored before commit, so no registered university lacks one
+        University saved = repository.saveAndFlush(university);
+        keyStore.storePrivateKey(saved.getUniversityId(), keyPair.getPrivate());
+        deletePrivateKeyOnRollback(saved.getUniversityId());
         return toResponse(saved);
     }
 
     @Override
-    public List<UniversityResponse> listUniversities(Boolean verified) {
-        List<University> universities;
+    public List<UniversityResponse> listUniversities(Boolean verified, boolean includePublicKey) {
+        return findAfter(verified, includePublicKey, "", Limit.unlimited());
+    }
 
-        if (verified == null) {
-            universities = repository.findAll();
-        } else {
-            universities = repository.findAll().stream()
-                    .filter(u -> u.isVerified() == verified)
-                    .collect(Collectors.toList());
+    /**
+     * Keyset page in university ID order after cursor (null for the first page); costs the same
+     * at any depth and runs no count query
+     */
+    @Override
+    public UniversityPageResponse scrollUniversities(Boolean verified, boolean includePublicKey, int size, String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
+        String after = cursor == null || cursor.isBlank() ? "" : decodeCursor(cursor);
+        // One extra row tells whether another page follows
+        List<UniversityResponse> universities = findAfter(verified, includePublicKey, after, Limit.of(size + 1));
+        boolean hasNext = universities.size() > size;
+        List<UniversityResponse> content = hasNext ? universities.subList(0, size) : universities;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).getUniversityId()) : null;
+        return new UniversityPageResponse(content, content.size(), hasNext, nextCursor);
+    }
 
+    private List<UniversityResponse> findAfter(Boolean verified, boolean includePublicKey, String after, Limit limit) {
+        if (!includePublicKey) {
+            return verified == null
+                    ? repository.findSummariesAfter(after, limit)
+                    : repository.findSummariesByVerifiedAfter(verified, after, limit);
+        }
+        List<University> universities = verified == null
+                ? repository.findByUniversityIdGreaterThanOrderByUniversityIdAsc(after, limit)
+                : repository.findByVerifiedAndUniversityIdGreaterThanOrderByUniversityIdAsc(verified, after, limit);
         return universities.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    private static String encodeCursor(String universityId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(universityId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
     @Override
     public UniversityResponse getUniversity(String id) {
         University university = repository.findById(id)
@@ -83,35 +148,8 @@ public class UniversityServiceImpl implements UniversityService {
         University university = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("University not found"));
 
-        // Check for duplicates only if the field is being updated
-        if (request.getUniversityName() != null && !university.getUniversityName().equals(request.getUniversityName())) {
-            repository.findByUniversityName(request.getUniversityName())
-                    .ifPresent(u -> {
-                        throw new InvalidRequestException("University name already exists");
-                    });
-        }
-
-        if (request.getEmail() != null && !university.getEmail().equals(request.getEmail())) {
-            repository.findByEmail(request.getEmail())
-                    .ifPresent(u -> {
-                        throw new InvalidRequestException("University email already exists");
-                    });
-        }
-
-        // Only update fields that are provided (not null)
-        // DO NOT touch publicKey, verified, or createdAt
-        if (request.getUniversityName() != null) {
-            university.setUniversityName(request.getUniversityName());
-        }
-        if (request.getEmail() != null) {
-            university.setEmail(request.getEmail());
-        }
-        if (request.getAddress() != null) {
-            university.setAddress(request.getAddress());
-        }
-        if (request.getPhone() != null) {
-            university.setPhone(request.getPhone());
-        }
+        applyUpdate(university, request.getUniversityName(), request.getEmail(),
+                request.getAddress(), request.getPhone());
 
         // Save will only update changed fields due to dirty checking
         University saved = repository.save(university);
@@ -124,6 +162,7 @@ public class UniversityServiceImpl implements UniversityService {
             throw new ResourceNotFoundException("University not found");
         }
         repository.deleteById(id);
+        keyStore.deletePrivateKey(id);
     }
 
     @Override
@@ -178,6 +217,237 @@ public class UniversityServiceImpl implements UniversityService {
         return response;
     }
 
+    /**
+     * SHA256withRSA over the UTF-8 bytes of the hex hash, Base64 encoded: the form
+     * verification-service's CertificateIntegrityVerifier checks against the public key
+     */
+    @Override
+    public SignatureResponse signCertificateHash(String id, String hash) {
+        if (!repository.existsById(id)) {
+            throw new ResourceNotFoundException("University not found");
+        }
+        PrivateKey privateKey = keyStore.findPrivateKey(id)
+                .orElseThrow(() -> new IllegalStateException("No private key stored for university " + id));
+        try {
+            Signature signer = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signer.initSign(privateKey);
+            signer.update(hash.getBytes(StandardCharsets.UTF_8));
+
+            SignatureResponse response = new SignatureResponse();
+            response.setUniversityId(id);
+            response.setAlgorithm(SIGNATURE_ALGORITHM);
+            response.setSignature(Base64.getEncoder().encodeToString(signer.sign()));
+            return response;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign certificate hash for university " + id, e);
+        }
+    }
+
+    /**
+     * Apply operations in order within one transaction. Each operation gets its own result
+     * instead of failing the batch, and verify/unverify of a university already in that state
+     * is reported as UNCHANGED, so a batch can safely be resent.
+     *
+     * Changes are only written at the end, so a name or email conflict between operations of
+     * the same batch is caught here and rejected per operation; otherwise the unique
+     * constraint would fail the flush and roll back the whole batch.
+     */
+    @Override
+    @Transactional
+    public List<UniversityBatchResult> applyBatch(List<UniversityBatchOperation> operations) {
+        Set<String> ids = operations.stream()
+                .map(UniversityBatchOperation::getUniversityId)
+                .collect(Collectors.toSet());
+        Map<String, University> universities = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(University::getUniversityId, Function.identity()));
+
+        Map<String, University> changed = new LinkedHashMap<>();
+        List<University> deleted = new ArrayList<>();
+        BatchUniqueValues names = new BatchUniqueValues("name");
+        BatchUniqueValues emails = new BatchUniqueValues("email");
+        List<UniversityBatchResult> results = new ArrayList<>(operations.size());
+        for (UniversityBatchOperation operation : operations) {
+            University university = universities.get(operation.getUniversityId());
+            if (university == null) {
+                results.add(batchResult(operation, UniversityBatchResult.Status.NOT_FOUND, "University not found"));
+                continue;
+            }
+            switch (operation.getAction()) {
+                case VERIFY, UNVERIFY -> {
+                    boolean verified = operation.getAction() == UniversityBatchOperation.Action.VERIFY;
+                    if (university.isVerified() == verified) {
+                        results.add(batchResult(operation, UniversityBatchResult.Status.UNCHANGED, null));
+                    } else {
+                        university.setVerified(verified);
+                        changed.put(university.getUniversityId(), university);
+                        results.add(batchResult(operation, UniversityBatchResult.Status.APPLIED, null));
+                    }
+                }
+                case UPDATE -> {
+                    String conflict = names.conflict(university.getUniversityId(), university.getUniversityName(),
+                            operation.getUniversityName());
+                    if (conflict == null) {
+                        conflict = emails.conflict(university.getUniversityId(), university.getEmail(),
+                                operation.getEmail());
+                    }
+                    if (conflict != null) {
+                        results.add(batchResult(operation, UniversityBatchResult.Status.REJECTED, conflict));
+                        continue;
+                    }
+                    try {
+                        String oldName = university.getUniversityName();
+                        String oldEmail = university.getEmail();
+                        applyUpdate(university, operation.getUniversityName(), operation.getEmail(),
+                                operation.getAddress(), operation.getPhone());
+                        names.change(university.getUniversityId(), oldName, university.getUniversityName());
+                        emails.change(university.getUniversityId(), oldEmail, university.getEmail());
+                        changed.put(university.getUniversityId(), university);
+                        results.add(batchResult(operation, UniversityBatchResult.Status.APPLIED, null));
+                    } catch (InvalidRequestException e) {
+                        results.add(batchResult(operation, UniversityBatchResult.Status.REJECTED, e.getMessage()));
+                    }
+                }
+                case DELETE -> {
+                    names.release(university.getUniversityId(), university.getUniversityName());
+                    emails.release(university.getUniversityId(), university.getEmail());
+                    universities.remove(university.getUniversityId());
+                    changed.remove(university.getUniversityId());
+                    deleted.add(university);
+                    results.add(batchResult(operation, UniversityBatchResult.Status.APPLIED, null));
+                }
+            }
+        }
+
+        repository.saveAll(changed.values());
+        repository.deleteAll(deleted);
+        deletePrivateKeysAfterCommit(deleted);
+        log.info("Applied university batch of {} operations ({} changed, {} deleted)",
+                operations.size(), changed.size(), deleted.size());
+        return results;
+    }
+
+    /**
+     * Names or emails taken and given up by earlier operations of a batch. A value given up in
+     * the batch is not reused until it is committed: Hibernate writes updates before deletes,
+     * so taking a deleted university's name in the same batch would still hit the constraint.
+     */
+    private static final class BatchUniqueValues {
+
+        private final String field;
+        private final Map<String, String> taken = new HashMap<>();    // value -> university ID
+        private final Map<String, String> released = new HashMap<>(); // value -> university ID
+
+        BatchUniqueValues(String field) {
+            this.field = field;
+        }
+
+        /**
+         * Why universityId cannot change its value from current to requested, or null if it may
+         * as far as this batch is concerned (the stored values are checked separately)
+         */
+        String conflict(String universityId, String current, String requested) {
+            if (requested == null || requested.equals(current)) {
+                return null;
+            }
+            String holder = taken.get(requested);
+            if (holder != null && !holder.equals(universityId)) {
+                return "University " + field + " is already used by " + holder + " earlier in this batch";
+            }
+            holder = released.get(requested);
+            if (holder != null && !holder.equals(universityId)) {
+                return "University " + field + " is released by " + holder
+                        + " earlier in this batch; resend this update after the batch";
+            }
+            return null;
+        }
+
+        void change(String universityId, String from, String to) {
+            if (!from.equals(to)) {
+                release(universityId, from);
+                taken.put(to, universityId);
+            }
+        }
+
+        void release(String universityId, String value) {
+            taken.remove(value, universityId);
+            released.putIfAbsent(value, universityId);
+        }
+    }
+
+    /**
+     * Key files are not transactional: remove them only once the deletes are committed, so a
+     * rolled-back batch does not leave universities without their keys
+     */
+    private void deletePrivateKeysAfterCommit(List<University> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        List<String> ids = deleted.stream().map(University::getUniversityId).toList();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(keyStore::deletePrivateKey);
+            }
+        });
+    }
+
+    /**
+     * Counterpart of deletePrivateKeysAfterCommit for registration: if the insert does not
+     * commit after all, remove the key file written for it
+     */
+    private void deletePrivateKeyOnRollback(String universityId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    keyStore.deletePrivateKey(universityId);
+                }
+            }
+        });
+    }
+
+    private void applyUpdate(University university, String universityName, String email, String address, String phone) {
+        // Check for duplicates only if the field is being updated
+        if (universityName != null && !university.getUniversityName().equals(universityName)) {
+            repository.findByUniversityName(universityName)
+                    .ifPresent(u -> {
+                        throw new InvalidRequestException("University name already exists");
+                    });
+        }
+
+        if (email != null && !university.getEmail().equals(email)) {
+            repository.findByEmail(email)
+                    .ifPresent(u -> {
+                        throw new InvalidRequestException("University email already exists");
+                    });
+        }
+
+        // Only update fields that are provided (not null)
+        // DO NOT touch publicKey, verified, or createdAt
+        if (universityName != null) {
+            university.setUniversityName(universityName);
+        }
+        if (email != null) {
+            university.setEmail(email);
+        }
+        if (address != null) {
+            university.setAddress(address);
+        }
+        if (phone != null) {
+            university.setPhone(phone);
+        }
+    }
+
+    private UniversityBatchResult batchResult(UniversityBatchOperation operation,
+                                              UniversityBatchResult.Status status, String message) {
+        UniversityBatchResult result = new UniversityBatchResult();
+        result.setUniversityId(operation.getUniversityId());
+        result.setAction(operation.getAction());
+        result.setStatus(status);
+        result.setMessage(message);
+        return result;
+    }
+
     private UniversityResponse toResponse(University university) {
         UniversityResponse response = new UniversityResponse();
         response.setUniversityId(university.getUniversityId());
@@ -191,15 +461,4 @@ public class UniversityServiceImpl implements UniversityService {
         response.setUpdatedAt(university.getUpdatedAt());
         return response;
     }
-
-    private String generatePublicKey() {
-        try {
-            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
-            generator.initialize(2048);
-            KeyPair pair = generator.generateKeyPair();
-            return Base64.getEncoder().encodeToString(pair.getPublic().getEncoded());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate public key", e);
-        }
-    }
 }
@@ -0,0 +1,29 @@
+package com.certverify.verification.config;
+
+import com.certverify.verification.service.RateLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Charges one token per verification request; bulk requests are charged per certificate
+ * in the controller instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async dispatches of Mono handlers come back through here; they were charged already
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            rateLimiter.acquire(request, 1);
+        }
+        return true;
+    }
+}
@@ -2,8 +2,11 @@ package com.certverify.verification.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.SpringHandlerInstantiator;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -15,9 +18,12 @@ public class RestTemplateConfig {
     }
 
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(AutowireCapableBeanFactory beanFactory) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new BlackbirdModule());
+        // Serializers named in @JsonSerialize are built by Spring, so they can take the MeterRegistry
+        mapper.setHandlerInstantiator(new SpringHandlerInstantiator(beanFactory));
         return mapper;
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.certverify.verification.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Non-blocking client for certificate-service, backed by a bounded Reactor Netty pool
+     */
+    @Bean
+    public WebClient certificateWebClient(
+            WebClient.Builder builder,
+            @Value("${services.certificate.url}") String certificateServiceUrl,
+            @Value("${services.certificate.max-connections:500}") int maxConnections,
+            @Value("${spring.cloud.openfeign.client.config.certificate-service.connect-timeout:1000}") int connectTimeoutMs,
+            @Value("${spring.cloud.openfeign.client.config.certificate-service.read-timeout:2000}") long readTimeoutMs) {
+
+        ConnectionProvider pool = ConnectionProvider.builder("certificate-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(readTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .baseUrl(certificateServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,23 +1,35 @@
 package com.certverify.verification.controller;
 
+import com.certverify.verification.dto.BulkVerificationItem;
 import com.certverify.verification.dto.BulkVerificationRequest;
+import com.certverify.verification.dto.BulkVerificationResponse;
+import com.certverify.verification.dto.TokenVerificationRequest;
 import com.certverify.verification.dto.VerificationRequest;
+import com.certverify.verification.dto.VerificationHistoryEntry;
+import com.certverify.verification.dto.VerificationHistoryResponse;
 import com.certverify.verification.dto.VerificationResponse;
+import com.certverify.verification.dto.VerificationView;
+import com.certverify.verification.model.Certificate;
 import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.service.RateLimiter;
+import com.certverify.verification.service.VerificationAuditLog;
 import com.certverify.verification.service.VerificationService;
+import com.certverify.verification.util.ClientRequestUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/verify")
@@ -27,27 +39,25 @@ import java.util.Map;
 public class VerificationController {
 
     private final VerificationService verificationService;
+    private final VerificationAuditLog auditLog;
+    private final RateLimiter rateLimiter;
 
     /**
      * Verify certificate by certificate number
      */
     @PostMapping
     @Operation(summary = "Verify certificate", description = "Verify certificate by certificate number")
-    public ResponseEntity<VerificationResponse> verify(@Valid @RequestBody VerificationRequest request) {
-
-        VerificationResult result = verificationService.verifyByCertificateNumber(request.getCertificateNumber());
-
-        String message = result.getValid()
-                ? "Certificate verified successfully"
-                : "Certificate verification failed";
-
-        return ResponseEntity.ok(
-                VerificationResponse.builder()
-                        .success(true)
-                        .data(result)
-                        .message(message)
-                        .build()
-        );
+    public Mono<ResponseEntity<VerificationResponse>> verify(
+            @Valid @RequestBody VerificationRequest request,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest) {
+
+        Set<String> selected = VerificationView.parseFields(fields);
+        String clientIp = ClientRequestUtil.clientIp(httpRequest);
+        String userAgent = httpRequest.getHeader(HttpHeaders.USER_AGENT);
+        return verificationService.verifyByCertificateNumberAsync(request.getCertificateNumber())
+                .doOnNext(result -> auditLog.record(request.getCertificateNumber(), result, clientIp, userAgent))
+                .map(result -> toResponse(result, selected));
     }
 
     /**
@@ -55,22 +65,45 @@ public class VerificationController {
      */
     @GetMapping("/{certificateNumber}")
     @Operation(summary = "Verify by certificate number", description = "Quick verification using certificate number")
-    public ResponseEntity<VerificationResponse> verifyByCertificateNumber(
-            @PathVariable @NotBlank String certificateNumber) {
-
-        VerificationResult result = verificationService.verifyByCertificateNumber(certificateNumber);
+    public Mono<ResponseEntity<VerificationResponse>> verifyByCertificateNumber(
+            @PathVariable @NotBlank String certificateNumber,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest) {
+
+        Set<String> selected = VerificationView.parseFields(fields);
+        String clientIp = ClientRequestUtil.clientIp(httpRequest);
+        String userAgent = httpRequest.getHeader(HttpHeaders.USER_AGENT);
+        return verificationService.verifyByCertificateNumberAsync(certificateNumber)
+                .doOnNext(result -> auditLog.record(certificateNumber, result, clientIp, userAgent))
+                .map(result -> toResponse(result, selected));
+    }
 
-        String message = result.getValid()
-                ? "Certificate verified successfully"
-                : "Certificate verification failed";
+    /**
+     * Verify a signed verification token
+     */
+    @PostMapping("/token")
+    @Operation(summary = "Verify token", description = "Verify a signed verification token locally, without a certificate lookup")
+    public ResponseEntity<VerificationResponse> verifyToken(
+            @Valid @RequestBody TokenVerificationRequest request,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest) {
+
+        return toResponse(recordToken(verificationService.verifyToken(request.getToken()), httpRequest),
+                VerificationView.parseFields(fields));
+    }
 
-        return ResponseEntity.ok(
-                VerificationResponse.builder()
-                        .success(true)
-                        .data(result)
-                        .message(message)
-                        .build()
-        );
+    /**
+     * Verify a signed verification token (GET, e.g. from a QR code link)
+     */
+    @GetMapping("/token/{token}")
+    @Operation(summary = "Verify token from link", description = "Verify a signed verification token embedded in a URL")
+    public ResponseEntity<VerificationResponse> verifyTokenFromLink(
+            @PathVariable @NotBlank String token,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest httpRequest) {
+
+        return toResponse(recordToken(verificationService.verifyToken(token), httpRequest),
+                VerificationView.parseFields(fields));
     }
 
     /**
@@ -78,9 +111,16 @@ public class VerificationController {
      */
     @PostMapping("/bulk")
     @Operation(summary = "Bulk verification", description = "Verify multiple certificates at once")
-    public ResponseEntity<Map<String, Object>> bulkVerify(@Valid @RequestBody BulkVerificationRequest request) {
+    public ResponseEntity<BulkVerificationResponse> bulkVerify(
+            @Valid @RequestBody BulkVerificationRequest request,
+            HttpServletRequest httpRequest) {
 
-        List<Map<String, Object>> results = new ArrayList<>();
+        // Charged per certificate so bulk cannot bypass the per-client quota
+        rateLimiter.acquire(httpRequest, request.getCertificates().size());
+
+        String clientIp = ClientRequestUtil.clientIp(httpRequest);
+        String userAgent = httpRequest.getHeader(HttpHeaders.USER_AGENT);
+        List<BulkVerificationItem> results = new ArrayList<>(request.getCertificates().size());
         int validCount = 0;
         int invalidCount = 0;
 
@@ -89,6 +129,7 @@ public class VerificationController {
                 VerificationResult result = verificationService.verifyByCertificateNumber(
                         certRequest.getCertificateNumber()
                 );
+                auditLog.record(certRequest.getCertificateNumber(), result, clientIp, userAgent);
 
                 if (result.getValid()) {
                     validCount++;
@@ -96,43 +137,77 @@ public class VerificationController {
                     invalidCount++;
                 }
 
-                Map<String, Object> resultMap = new HashMap<>();
-                resultMap.put("certificateNumber", certRequest.getCertificateNumber());
-                resultMap.put("valid", result.getValid());
-                resultMap.put("reason", result.getReason());
-
                 // Include certificate details if available
-                if (result.getCertificate() != null) {
-                    resultMap.put("studentName", result.getCertificate().getStudentName());
-                    resultMap.put("courseName", result.getCertificate().getCourseName());
-                    resultMap.put("issueDate", result.getCertificate().getIssueDate());
-                }
-
-                results.add(resultMap);
+                Certificate certificate = result.getCertificate();
+                results.add(new BulkVerificationItem(
+                        certRequest.getCertificateNumber(),
+                        result.getValid(),
+                        result.getReason(),
+                        certificate == null ? null : certificate.getStudentName(),
+                        certificate == null ? null : certificate.getCourseName(),
+                        certificate == null ? null : certificate.getIssueDate()));
 
             } catch (Exception e) {
                 invalidCount++;
-                Map<String, Object> errorResult = new HashMap<>();
-                errorResult.put("certificateNumber", certRequest.getCertificateNumber());
-                errorResult.put("valid", false);
-                errorResult.put("reason", "Verification failed due to internal error: " + e.getMessage());
-                results.add(errorResult);
+                results.add(new BulkVerificationItem(
+                        certRequest.getCertificateNumber(),
+                        false,
+                        "Verification failed due to internal error: " + e.getMessage(),
+                        null, null, null));
             }
         }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
+        return ResponseEntity.ok(
+                BulkVerificationResponse.builder()
+                        .success(true)
+                        .data(new BulkVerificationResponse.Summary(
+                                request.getCertificates().size(), validCount, invalidCount, results))
+                        .message(String.format("Bulk verification completed. %d/%d certificates are valid.",
+                                validCount, request.getCertificates().size()))
+                        .build()
+        );
+    }
+
+    /**
+     * Verification history of a certificate
+     */
+    @GetMapping("/history/{certificateNumber}")
+    @Operation(summary = "Verification history", description = "When and how a certificate was verified, newest first")
+    public ResponseEntity<VerificationHistoryResponse> history(
+            @PathVariable @NotBlank String certificateNumber,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        List<VerificationHistoryEntry> events = auditLog.history(certificateNumber, Math.max(1, Math.min(limit, 500))).stream()
+                .map(VerificationHistoryEntry::from)
+                .toList();
+        return ResponseEntity.ok(
+                VerificationHistoryResponse.builder()
+                        .success(true)
+                        .data(events)
+                        .message(String.format("%d verifications found", events.size()))
+                        .build()
+        );
+    }
 
-        Map<String, Object> data = new HashMap<>();
-        data.put("totalRequested", request.getCertificates().size());
-        data.put("validCertificates", validCount);
-        data.put("invalidCertificates", invalidCount);
-        data.put("results", results);
+    private VerificationResult recordToken(VerificationResult result, HttpServletRequest httpRequest) {
+        if (result.getCertificate() != null) {
+            auditLog.record(result.getCertificate().getCertificateNumber(), result,
+                    ClientRequestUtil.clientIp(httpRequest), httpRequest.getHeader(HttpHeaders.USER_AGENT));
+        }
+        return result;
+    }
 
-        response.put("data", data);
-        response.put("message", String.format("Bulk verification completed. %d/%d certificates are valid.",
-                validCount, request.getCertificates().size()));
+    private ResponseEntity<VerificationResponse> toResponse(VerificationResult result, Set<String> fields) {
+        String message = result.getValid()
+                ? "Certificate verified successfully"
+                : "Certificate verification failed";
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(
+                VerificationResponse.builder()
+                        .success(true)
+                        .data(VerificationView.from(result, fields))
+                        .message(message)
+                        .build()
+        );
     }
 }
\ No newline at end of file
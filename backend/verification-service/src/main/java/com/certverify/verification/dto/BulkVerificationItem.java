@@ -0,0 +1,16 @@
+package com.certverify.verification.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One row of a bulk verification response; certificate details are omitted when unknown
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkVerificationItem(
+        String certificateNumber,
+        boolean valid,
+        String reason,
+        String studentName,
+        String courseName,
+        String issueDate) {
+}
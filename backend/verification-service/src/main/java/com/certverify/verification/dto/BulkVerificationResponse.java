@@ -0,0 +1,25 @@
+package com.certverify.verification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVerificationResponse {
+    private Boolean success;
+    private Summary data;
+    private String message;
+
+    public record Summary(
+            int totalRequested,
+            int validCertificates,
+            int invalidCertificates,
+            List<BulkVerificationItem> results) {
+    }
+}
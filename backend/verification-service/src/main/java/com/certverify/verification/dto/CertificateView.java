@@ -0,0 +1,44 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.Certificate;
+
+import java.util.Set;
+
+/**
+ * Slim projection of a certificate for verification responses.
+ *
+ * Only what a verifier needs to compare against the document in front of them; contact
+ * details, storage paths and signature material stay out of the response.
+ */
+public record CertificateView(
+        String certificateNumber,
+        String studentName,
+        String courseName,
+        String specialization,
+        String grade,
+        Double cgpa,
+        String issueDate,
+        String completionDate,
+        String universityId,
+        String status,
+        String revocationReason) {
+
+    public static final Set<String> FIELDS = Set.of(
+            "certificateNumber", "studentName", "courseName", "specialization", "grade", "cgpa",
+            "issueDate", "completionDate", "universityId", "status", "revocationReason");
+
+    public static CertificateView from(Certificate certificate) {
+        return new CertificateView(
+                certificate.getCertificateNumber(),
+                certificate.getStudentName(),
+                certificate.getCourseName(),
+                certificate.getSpecialization(),
+                certificate.getGrade(),
+                certificate.getCgpa(),
+                certificate.getIssueDate(),
+                certificate.getCompletionDate(),
+                certificate.getUniversityId(),
+                certificate.getStatus(),
+                certificate.getRevocationReason());
+    }
+}
@@ -0,0 +1,14 @@
+package com.certverify.verification.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenVerificationRequest {
+    @NotBlank(message = "Token is required")
+    private String token;
+}
@@ -0,0 +1,28 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.VerificationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Public view of an audit log entry.
+ *
+ * The history endpoint is unauthenticated, so the verifier's client IP and User-Agent stay
+ * in the audit log and are not returned.
+ */
+public record VerificationHistoryEntry(
+        String certificateNumber,
+        boolean valid,
+        String verificationMethod,
+        String reason,
+        LocalDateTime verifiedAt) {
+
+    public static VerificationHistoryEntry from(VerificationEvent event) {
+        return new VerificationHistoryEntry(
+                event.certificateNumber(),
+                event.valid(),
+                event.verificationMethod(),
+                event.reason(),
+                event.verifiedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.certverify.verification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificationHistoryResponse {
+    private Boolean success;
+    private List<VerificationHistoryEntry> data;
+    private String message;
+}
@@ -1,6 +1,5 @@
 package com.certverify.verification.dto;
 
-import com.certverify.verification.model.VerificationResult;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +11,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class VerificationResponse {
     private Boolean success;
-    private VerificationResult data;
+    private VerificationView data;
     private String message;
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.University;
+import com.certverify.verification.model.VerificationResult;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Verification result as returned to clients, written by {@link VerificationViewSerializer}.
+ *
+ * {@code fields} is the optional {@code ?fields=} selection; null means every field.
+ * {@code valid} and {@code reason} are always written.
+ */
+@JsonSerialize(using = VerificationViewSerializer.class)
+public record VerificationView(
+        boolean valid,
+        CertificateView certificate,
+        University university,
+        String verificationMethod,
+        Boolean integrityVerified,
+        LocalDateTime timestamp,
+        String reason,
+        Set<String> fields) {
+
+    public static VerificationView from(VerificationResult result, Set<String> fields) {
+        return new VerificationView(
+                Boolean.TRUE.equals(result.getValid()),
+                result.getCertificate() == null ? null : CertificateView.from(result.getCertificate()),
+                result.getUniversity(),
+                result.getVerificationMethod(),
+                result.getIntegrityVerified(),
+                result.getTimestamp(),
+                result.getReason(),
+                fields);
+    }
+
+    /**
+     * Parse a comma separated {@code ?fields=} value; blank means every field
+     */
+    public static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * "certificate" selects the whole projection, individual names select just those fields
+     */
+    public boolean includesCertificate() {
+        return certificate != null && (includes("certificate") || fields.stream().anyMatch(CertificateView.FIELDS::contains));
+    }
+
+    public boolean includesCertificateField(String field) {
+        return includes("certificate") || fields.contains(field);
+    }
+}
@@ -0,0 +1,165 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.University;
+import com.certverify.verification.service.VerificationMetrics;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hand-written serializer for the hot verification response: no reflection, field names
+ * pre-encoded once, nulls and unselected fields skipped.
+ *
+ * Serialization time is recorded as the "serialization" stage of verification.stage.duration.
+ * The service's ObjectMapper creates this serializer through Spring (RestTemplateConfig), so
+ * the timer is registered once on the application's registry.
+ */
+public class VerificationViewSerializer extends StdSerializer<VerificationView> {
+
+    private final Timer serializationTimer;
+
+    private static final SerializedString VALID = new SerializedString("valid");
+    private static final SerializedString CERTIFICATE = new SerializedString("certificate");
+    private static final SerializedString UNIVERSITY = new SerializedString("university");
+    private static final SerializedString VERIFICATION_METHOD = new SerializedString("verificationMethod");
+    private static final SerializedString INTEGRITY_VERIFIED = new SerializedString("integrityVerified");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString REASON = new SerializedString("reason");
+
+    private static final SerializedString CERTIFICATE_NUMBER = new SerializedString("certificateNumber");
+    private static final SerializedString STUDENT_NAME = new SerializedString("studentName");
+    private static final SerializedString COURSE_NAME = new SerializedString("courseName");
+    private static final SerializedString SPECIALIZATION = new SerializedString("specialization");
+    private static final SerializedString GRADE = new SerializedString("grade");
+    private static final SerializedString CGPA = new SerializedString("cgpa");
+    private static final SerializedString ISSUE_DATE = new SerializedString("issueDate");
+    private static final SerializedString COMPLETION_DATE = new SerializedString("completionDate");
+    private static final SerializedString UNIVERSITY_ID = new SerializedString("universityId");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString REVOCATION_REASON = new SerializedString("revocationReason");
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString VERIFIED = new SerializedString("verified");
+
+    /**
+     * For mappers created outside Spring; serialization is not timed
+     */
+    public VerificationViewSerializer() {
+        this(new CompositeMeterRegistry());
+    }
+
+    @Autowired
+    public VerificationViewSerializer(MeterRegistry meterRegistry) {
+        super(VerificationView.class);
+        this.serializationTimer = Timer.builder(VerificationMetrics.STAGE_TIMER)
+                .description("Verification latency by stage")
+                .tag("stage", "serialization")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void serialize(VerificationView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        long start = System.nanoTime();
+        try {
+            writeView(view, gen, provider);
+        } finally {
+            serializationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void writeView(VerificationView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(VALID);
+        gen.writeBoolean(view.valid());
+
+        if (view.includesCertificate()) {
+            writeCertificate(view, gen);
+        }
+        if (view.university() != null && view.includes("university")) {
+            writeUniversity(view.university(), gen);
+        }
+        if (view.includes("verificationMethod")) {
+            writeString(gen, VERIFICATION_METHOD, view.verificationMethod());
+        }
+        if (view.integrityVerified() != null && view.includes("integrityVerified")) {
+            gen.writeFieldName(INTEGRITY_VERIFIED);
+            gen.writeBoolean(view.integrityVerified());
+        }
+        if (view.timestamp() != null && view.includes("timestamp")) {
+            gen.writeFieldName(TIMESTAMP);
+            provider.defaultSerializeValue(view.timestamp(), gen);
+        }
+        writeString(gen, REASON, view.reason());
+        gen.writeEndObject();
+    }
+
+    private static void writeCertificate(VerificationView view, JsonGenerator gen) throws IOException {
+        CertificateView certificate = view.certificate();
+
+        gen.writeFieldName(CERTIFICATE);
+        gen.writeStartObject();
+        if (view.includesCertificateField("certificateNumber")) {
+            writeString(gen, CERTIFICATE_NUMBER, certificate.certificateNumber());
+        }
+        if (view.includesCertificateField("studentName")) {
+            writeString(gen, STUDENT_NAME, certificate.studentName());
+        }
+        if (view.includesCertificateField("courseName")) {
+            writeString(gen, COURSE_NAME, certificate.courseName());
+        }
+        if (view.includesCertificateField("specialization")) {
+            writeString(gen, SPECIALIZATION, certificate.specialization());
+        }
+        if (view.includesCertificateField("grade")) {
+            writeString(gen, GRADE, certificate.grade());
+        }
+        if (certificate.cgpa() != null && view.includesCertificateField("cgpa")) {
+            gen.writeFieldName(CGPA);
+            gen.writeNumber(certificate.cgpa());
+        }
+        if (view.includesCertificateField("issueDate")) {
+            writeString(gen, ISSUE_DATE, certificate.issueDate());
+        }
+        if (view.includesCertificateField("completionDate")) {
+            writeString(gen, COMPLETION_DATE, certificate.completionDate());
+        }
+        if (view.includesCertificateField("universityId")) {
+            writeString(gen, UNIVERSITY_ID, certificate.universityId());
+        }
+        if (view.includesCertificateField("status")) {
+            writeString(gen, STATUS, certificate.status());
+        }
+        if (view.includesCertificateField("revocationReason")) {
+            writeString(gen, REVOCATION_REASON, certificate.revocationReason());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeUniversity(University university, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(UNIVERSITY);
+        gen.writeStartObject();
+        writeString(gen, ID, university.getId());
+        writeString(gen, NAME, university.getName());
+        if (university.getVerified() != null) {
+            gen.writeFieldName(VERIFIED);
+            gen.writeBoolean(university.getVerified());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.certverify.verification.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RevokedCertificate {
+    private String certificateNumber;
+    private String status;
+    private String revocationReason;
+    private String changedAt;
+}
@@ -0,0 +1,16 @@
+package com.certverify.verification.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TokenSigningKey {
+    private String keyId;
+    private String algorithm;
+    private String publicKey;
+}
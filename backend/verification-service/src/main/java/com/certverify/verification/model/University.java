@@ -1,5 +1,7 @@
 package com.certverify.verification.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,12 +9,15 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class University {
+    @JsonAlias("universityId")
     private String id;
+    @JsonAlias("universityName")
     private String name;
     private String email;
     private String address;
     private String phone;
     private String publicKey;
     private Boolean verified;
-}
\ No newline at end of file
+}
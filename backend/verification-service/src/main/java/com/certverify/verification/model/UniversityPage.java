@@ -0,0 +1,21 @@
+package com.certverify.verification.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of GET /api/universities/scroll
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UniversityPage {
+    private List<University> content;
+    private boolean hasNext;
+    private String nextCursor;
+}
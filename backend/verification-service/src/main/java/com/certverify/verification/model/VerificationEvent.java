@@ -0,0 +1,16 @@
+package com.certverify.verification.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One verification of one certificate, as recorded in the audit log
+ */
+public record VerificationEvent(
+        String certificateNumber,
+        boolean valid,
+        String verificationMethod,
+        String reason,
+        String clientIp,
+        String userAgent,
+        LocalDateTime verifiedAt) {
+}
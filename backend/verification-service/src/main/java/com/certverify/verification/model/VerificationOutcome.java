@@ -0,0 +1,14 @@
+package com.certverify.verification.model;
+
+/**
+ * Why a verification ended the way it did; used for metrics, not part of the response
+ */
+public enum VerificationOutcome {
+    VALID,
+    REVOKED,
+    SUSPENDED,
+    NOT_FOUND,
+    INTEGRITY_FAILED,
+    INVALID_TOKEN,
+    ERROR
+}
@@ -15,6 +15,8 @@ public class VerificationResult {
     private Certificate certificate;
     private University university;
     private String verificationMethod;
+    private Boolean integrityVerified;
     private LocalDateTime timestamp;
     private String reason;
+    private VerificationOutcome outcome;
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.certverify.verification.repository;
+
+import com.certverify.verification.model.Certificate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class CertificateReplicaRepository {
+
+    private static final String COLUMNS = "certificate_number, certificate_id, student_id, university_id, "
+            + "student_name, student_email, course_name, specialization, grade, cgpa, issue_date, "
+            + "completion_date, certificate_hash, digital_signature, status, revocation_reason, updated_at";
+
+    // Only overwrite with an equal or newer version; read-through writes may race the change feed
+    private static final String UPSERT = "MERGE INTO certificate_replica r "
+            + "USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS DOUBLE PRECISION), ?, ?, ?, ?, ?, ?, CAST(? AS TIMESTAMP))) "
+            + "s(" + COLUMNS + ") ON r.certificate_number = s.certificate_number "
+            + "WHEN MATCHED AND (r.updated_at IS NULL OR s.updated_at IS NULL OR r.updated_at <= s.updated_at) THEN UPDATE SET "
+            + "certificate_id = s.certificate_id, student_id = s.student_id, university_id = s.university_id, "
+            + "student_name = s.student_name, student_email = s.student_email, course_name = s.course_name, "
+            + "specialization = s.specialization, grade = s.grade, cgpa = s.cgpa, issue_date = s.issue_date, "
+            + "completion_date = s.completion_date, certificate_hash = s.certificate_hash, "
+            + "digital_signature = s.digital_signature, status = s.status, "
+            + "revocation_reason = s.revocation_reason, updated_at = s.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (s.certificate_number, s.certificate_id, "
+            + "s.student_id, s.university_id, s.student_name, s.student_email, s.course_name, s.specialization, "
+            + "s.grade, s.cgpa, s.issue_date, s.completion_date, s.certificate_hash, s.digital_signature, "
+            + "s.status, s.revocation_reason, s.updated_at)";
+
+    private static final String FIND = "SELECT " + COLUMNS + " FROM certificate_replica WHERE certificate_number = ?";
+
+    private static final RowMapper<Certificate> ROW_MAPPER = (rs, rowNum) -> {
+        Certificate certificate = new Certificate();
+        certificate.setCertificateNumber(rs.getString("certificate_number"));
+        certificate.setCertificateId(rs.getString("certificate_id"));
+        certificate.setStudentId(rs.getString("student_id"));
+        certificate.setUniversityId(rs.getString("university_id"));
+        certificate.setStudentName(rs.getString("student_name"));
+        certificate.setStudentEmail(rs.getString("student_email"));
+        certificate.setCourseName(rs.getString("course_name"));
+        certificate.setSpecialization(rs.getString("specialization"));
+        certificate.setGrade(rs.getString("grade"));
+        double cgpa = rs.getDouble("cgpa");
+        certificate.setCgpa(rs.wasNull() ? null : cgpa);
+        certificate.setIssueDate(rs.getString("issue_date"));
+        certificate.setCompletionDate(rs.getString("completion_date"));
+        certificate.setCertificateHash(rs.getString("certificate_hash"));
+        certificate.setDigitalSignature(rs.getString("digital_signature"));
+        certificate.setStatus(rs.getString("status"));
+        certificate.setRevocationReason(rs.getString("revocation_reason"));
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        certificate.setUpdatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime().toString());
+        return certificate;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CertificateReplicaRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Change feed position: (since, afterId) of the last applied change
+     */
+    public record Cursor(String since, String afterId) {
+    }
+
+    public Optional<Certificate> findByCertificateNumber(String certificateNumber) {
+        return jdbcTemplate.query(FIND, ROW_MAPPER, certificateNumber).stream().findFirst();
+    }
+
+    public void upsertAll(List<Certificate> certificates) {
+        jdbcTemplate.batchUpdate(UPSERT, certificates, certificates.size(), (ps, c) -> {
+            ps.setString(1, c.getCertificateNumber());
+            ps.setString(2, c.getCertificateId());
+            ps.setString(3, c.getStudentId());
+            ps.setString(4, c.getUniversityId());
+            ps.setString(5, c.getStudentName());
+            ps.setString(6, c.getStudentEmail());
+            ps.setString(7, c.getCourseName());
+            ps.setString(8, c.getSpecialization());
+            ps.setString(9, c.getGrade());
+            if (c.getCgpa() == null) {
+                ps.setNull(10, Types.DOUBLE);
+            } else {
+                ps.setDouble(10, c.getCgpa());
+            }
+            ps.setString(11, c.getIssueDate());
+            ps.setString(12, c.getCompletionDate());
+            ps.setString(13, c.getCertificateHash());
+            ps.setString(14, c.getDigitalSignature());
+            ps.setString(15, c.getStatus());
+            ps.setString(16, c.getRevocationReason());
+            ps.setTimestamp(17, toTimestamp(c.getUpdatedAt()));
+        });
+    }
+
+    /**
+     * certificate-service sends updatedAt as an ISO-8601 local date-time
+     */
+    private static Timestamp toTimestamp(String updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        try {
+            return Timestamp.valueOf(LocalDateTime.parse(updatedAt));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM certificate_replica", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public Optional<Cursor> findCursor(String name) {
+        return jdbcTemplate.query("SELECT since_ts, after_id FROM replica_cursor WHERE name = ?",
+                (rs, rowNum) -> new Cursor(rs.getString("since_ts"), rs.getString("after_id")), name)
+                .stream().findFirst();
+    }
+
+    public void saveCursor(String name, Cursor cursor) {
+        jdbcTemplate.update("MERGE INTO replica_cursor c USING (VALUES (?, ?, ?, ?)) s(name, since_ts, after_id, updated_at) "
+                        + "ON c.name = s.name "
+                        + "WHEN MATCHED THEN UPDATE SET since_ts = s.since_ts, after_id = s.after_id, updated_at = s.updated_at "
+                        + "WHEN NOT MATCHED THEN INSERT (name, since_ts, after_id, updated_at) "
+                        + "VALUES (s.name, s.since_ts, s.after_id, s.updated_at)",
+                name, cursor.since(), cursor.afterId(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
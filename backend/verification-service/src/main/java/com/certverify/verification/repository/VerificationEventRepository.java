@@ -0,0 +1,56 @@
+package com.certverify.verification.repository;
+
+import com.certverify.verification.model.VerificationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class VerificationEventRepository {
+
+    private static final String INSERT = "INSERT INTO verification_events "
+            + "(certificate_number, valid, verification_method, reason, client_ip, user_agent, verified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_BY_CERTIFICATE = "SELECT certificate_number, valid, verification_method, "
+            + "reason, client_ip, user_agent, verified_at FROM verification_events "
+            + "WHERE certificate_number = ? ORDER BY verified_at DESC LIMIT ?";
+
+    private static final RowMapper<VerificationEvent> ROW_MAPPER = (rs, rowNum) -> new VerificationEvent(
+            rs.getString("certificate_number"),
+            rs.getBoolean("valid"),
+            rs.getString("verification_method"),
+            rs.getString("reason"),
+            rs.getString("client_ip"),
+            rs.getString("user_agent"),
+            rs.getTimestamp("verified_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VerificationEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void saveAll(List<VerificationEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+            ps.setString(1, truncate(event.certificateNumber(), 100));
+            ps.setBoolean(2, event.valid());
+            ps.setString(3, truncate(event.verificationMethod(), 32));
+            ps.setString(4, truncate(event.reason(), 500));
+            ps.setString(5, truncate(event.clientIp(), 64));
+            ps.setString(6, truncate(event.userAgent(), 255));
+            ps.setTimestamp(7, Timestamp.valueOf(event.verifiedAt()));
+        });
+    }
+
+    public List<VerificationEvent> findByCertificateNumber(String certificateNumber, int limit) {
+        return jdbcTemplate.query(FIND_BY_CERTIFICATE, ROW_MAPPER, certificateNumber, limit);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
@@ -0,0 +1,88 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Checks a certificate's content hash and digital signature locally.
+ *
+ * The canonical content must match certificate-service's CertificateHashUtil: the
+ * verifiable fields joined with '\n' in a fixed order, nulls as empty strings,
+ * SHA-256, hex encoded; both are tested against backend/shared/fixtures/certificate-hash.json.
+ * The signature is SHA256withRSA over that hex hash, Base64 encoded, made by university-service
+ * with the issuing university's private key.
+ */
+@Service
+public class CertificateIntegrityVerifier {
+
+    public enum Outcome {
+        VERIFIED,
+        HASH_MISMATCH,
+        SIGNATURE_INVALID,
+        KEY_UNAVAILABLE
+    }
+
+    public Outcome verify(Certificate certificate, PublicKey universityKey) {
+        String expectedHash = computeHash(certificate);
+        if (certificate.getCertificateHash() == null
+                || !MessageDigest.isEqual(
+                        expectedHash.getBytes(StandardCharsets.US_ASCII),
+                        certificate.getCertificateHash().getBytes(StandardCharsets.US_ASCII))) {
+            return Outcome.HASH_MISMATCH;
+        }
+        if (universityKey == null) {
+            return Outcome.KEY_UNAVAILABLE;
+        }
+        return isSignatureValid(expectedHash, certificate.getDigitalSignature(), universityKey)
+                ? Outcome.VERIFIED
+                : Outcome.SIGNATURE_INVALID;
+    }
+
+    public String computeHash(Certificate certificate) {
+        String canonical = String.join("\n",
+                nullToEmpty(certificate.getCertificateNumber()),
+                nullToEmpty(certificate.getStudentId()),
+                nullToEmpty(certificate.getUniversityId()),
+                nullToEmpty(certificate.getStudentName()),
+                nullToEmpty(certificate.getStudentEmail()),
+                nullToEmpty(certificate.getCourseName()),
+                nullToEmpty(certificate.getSpecialization()),
+                nullToEmpty(certificate.getGrade()),
+                certificate.getCgpa() == null ? "" : certificate.getCgpa().toString(),
+                nullToEmpty(certificate.getIssueDate()),
+                nullToEmpty(certificate.getCompletionDate()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private boolean isSignatureValid(String hash, String digitalSignature, PublicKey universityKey) {
+        if (digitalSignature == null) {
+            return false;
+        }
+        try {
+            Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(universityKey);
+            verifier.update(hash.getBytes(StandardCharsets.UTF_8));
+            return verifier.verify(Base64.getDecoder().decode(digitalSignature));
+        } catch (Exception e) {
+            // Malformed or legacy placeholder signatures (e.g. not Base64) never verify
+            return false;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
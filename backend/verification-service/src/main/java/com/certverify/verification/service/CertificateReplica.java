@@ -0,0 +1,218 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.repository.CertificateReplicaRepository;
+import com.certverify.verification.repository.CertificateReplicaRepository.Cursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local replica of certificate-service's verification-relevant fields, so verify is a
+ * local point lookup instead of a network call.
+ *
+ * On first start the replica streams a full NDJSON snapshot, then follows the change feed
+ * from the cursor the snapshot returned. The cursor is stored next to the data, so a
+ * restart resumes the feed instead of re-snapshotting. Until the snapshot has completed the
+ * replica answers nothing and verification goes to certificate-service as before; a miss
+ * afterwards (e.g. a certificate issued since the last poll) also falls through and the
+ * fetched copy is written back.
+ */
+@Service
+public class CertificateReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(CertificateReplica.class);
+
+    private static final String FEED = "certificates";
+
+    private final CertificateReplicaRepository repository;
+    private final CertificateServiceClient certificateClient;
+    private final WebClient certificateWebClient;
+    private final boolean enabled;
+    private final String replicationKey;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final ScheduledExecutorService syncer;
+    private final AtomicLong caughtUpAt = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private volatile Cursor cursor;
+
+    public CertificateReplica(
+            CertificateReplicaRepository repository,
+            CertificateServiceClient certificateClient,
+            @Qualifier("certificateWebClient") WebClient certificateWebClient,
+            MeterRegistry meterRegistry,
+            @Value("${verification.replica.enabled:false}") boolean enabled,
+            @Value("${verification.replica.api-key:}") String replicationKey,
+            @Value("${verification.replica.batch-size:1000}") int batchSize,
+            @Value("${verification.replica.poll-interval-ms:1000}") long pollIntervalMs) {
+        this.repository = repository;
+        this.certificateClient = certificateClient;
+        this.certificateWebClient = certificateWebClient;
+        if (enabled && replicationKey.isBlank()) {
+            throw new IllegalStateException(
+                    "verification.replica.enabled requires CERTIFICATE_REPLICATION_API_KEY, the key certificate-service expects");
+        }
+        this.enabled = enabled;
+        this.replicationKey = replicationKey;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.hits = Counter.builder("verification.replica.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("verification.replica.lookups").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("verification.replica.lag.seconds", this, CertificateReplica::lagSeconds)
+                .description("Seconds since the replica last caught up with the change feed")
+                .register(meterRegistry);
+        Gauge.builder("verification.replica.size", this, CertificateReplica::size)
+                .description("Certificates held in the local replica")
+                .register(meterRegistry);
+
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "certificate-replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (enabled) {
+            syncer.scheduleWithFixedDelay(this::sync, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Local point lookup; empty when the replica is disabled, not bootstrapped yet, or has no such certificate
+     */
+    public Optional<Certificate> find(String certificateNumber) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        Optional<Certificate> certificate;
+        try {
+            certificate = repository.findByCertificateNumber(certificateNumber);
+        } catch (Exception e) {
+            logger.warn("Replica lookup failed for {}: {}", certificateNumber, e.getMessage());
+            certificate = Optional.empty();
+        }
+        (certificate.isPresent() ? hits : misses).increment();
+        return certificate;
+    }
+
+    /**
+     * Write back a certificate fetched from certificate-service after a replica miss; applied on the sync thread
+     */
+    public void putFetched(Certificate certificate) {
+        if (!isReady() || certificate == null || certificate.getCertificateNumber() == null) {
+            return;
+        }
+        syncer.execute(() -> {
+            try {
+                repository.upsertAll(List.of(certificate));
+            } catch (Exception e) {
+                logger.debug("Replica write-back failed for {}: {}", certificate.getCertificateNumber(), e.getMessage());
+            }
+        });
+    }
+
+    public boolean isReady() {
+        return enabled && cursor != null;
+    }
+
+    void sync() {
+        try {
+            if (cursor == null) {
+                cursor = repository.findCursor(FEED).orElseGet(this::bootstrap);
+            }
+            pollChanges();
+        } catch (Exception e) {
+            logger.warn("Certificate replica sync failed, lag {}s: {}", lagSeconds(), e.toString());
+        }
+    }
+
+    private Cursor bootstrap() {
+        logger.info("Bootstrapping certificate replica from snapshot");
+        long started = System.currentTimeMillis();
+        AtomicLong applied = new AtomicLong();
+
+        String snapshotCursor = certificateWebClient.get()
+                .uri("/api/certificates/replication/snapshot")
+                .header(CertificateServiceClient.REPLICATION_KEY_HEADER, replicationKey)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    String position = response.headers().header("X-Replication-Cursor").stream()
+                            .findFirst()
+                            .orElseThrow(() -> new IllegalStateException("Snapshot response has no cursor"));
+                    return response.bodyToFlux(Certificate.class)
+                            .buffer(batchSize)
+                            // Batches are written on a worker so the Netty event loop never blocks on JDBC
+                            .publishOn(Schedulers.boundedElastic(), 2)
+                            .doOnNext(batch -> {
+                                repository.upsertAll(batch);
+                                applied.addAndGet(batch.size());
+                            })
+                            .then(Mono.just(position));
+                })
+                .block(Duration.ofHours(1));
+
+        Cursor start = new Cursor(snapshotCursor, null);
+        repository.saveCursor(FEED, start);
+        logger.info("Certificate replica bootstrapped with {} certificates in {} ms",
+                applied.get(), System.currentTimeMillis() - started);
+        return start;
+    }
+
+    private void pollChanges() {
+        while (true) {
+            List<Certificate> changes = certificateClient.getReplicationChanges(
+                    replicationKey, cursor.since(), cursor.afterId(), batchSize);
+            if (!changes.isEmpty()) {
+                repository.upsertAll(changes);
+                Certificate last = changes.get(changes.size() - 1);
+                cursor = new Cursor(last.getUpdatedAt(), last.getCertificateId());
+                repository.saveCursor(FEED, cursor);
+            }
+            if (changes.size() < batchSize) {
+                caughtUpAt.set(System.currentTimeMillis());
+                return;
+            }
+        }
+    }
+
+    private double lagSeconds() {
+        long at = caughtUpAt.get();
+        return at == 0 ? Double.NaN : (System.currentTimeMillis() - at) / 1000.0;
+    }
+
+    public long size() {
+        return enabled ? repository.count() : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        syncer.shutdownNow();
+    }
+}
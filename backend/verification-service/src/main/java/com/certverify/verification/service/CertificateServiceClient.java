@@ -3,15 +3,35 @@ package com.certverify.verification.service;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.RevokedCertificate;
+import com.certverify.verification.model.TokenSigningKey;
 
-import java.util.Map;
+import java.util.List;
 
 @FeignClient(name = "certificate-service", url = "${services.certificate.url}")
 public interface CertificateServiceClient {
 
+    String REPLICATION_KEY_HEADER = "X-Replication-Key";
+
     @GetMapping("/api/certificates/{certificateNumber}")
     Certificate getCertificateByCertificateNumber(
             @PathVariable("certificateNumber") String certificateNumber
     );
-}
\ No newline at end of file
+
+    @GetMapping("/api/certificates/token-keys")
+    List<TokenSigningKey> getTokenKeys();
+
+    @GetMapping("/api/certificates/revocations")
+    List<RevokedCertificate> getRevocations(@RequestParam(value = "since", required = false) String since);
+
+    @GetMapping("/api/certificates/replication/changes")
+    List<Certificate> getReplicationChanges(
+            @RequestHeader(REPLICATION_KEY_HEADER) String replicationKey,
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "afterId", required = false) String afterId,
+            @RequestParam("limit") int limit
+    );
+}
@@ -0,0 +1,49 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Last-known copy of recently verified certificates, including their revocation status.
+ *
+ * Used only as a fallback when certificate-service cannot be reached; results served
+ * from here say so and carry the time the status was last confirmed.
+ */
+@Service
+public class CertificateSnapshotCache {
+
+    private final Cache<String, Snapshot> snapshots;
+
+    public CertificateSnapshotCache(
+            @Value("${verification.offline.max-certificates:100000}") long maxCertificates,
+            @Value("${verification.offline.ttl-hours:24}") long ttlHours) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxCertificates)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+    }
+
+    public record Snapshot(Certificate certificate, LocalDateTime fetchedAt) {
+    }
+
+    public void put(Certificate certificate) {
+        if (certificate != null && certificate.getCertificateNumber() != null) {
+            snapshots.put(certificate.getCertificateNumber(), new Snapshot(certificate, LocalDateTime.now()));
+        }
+    }
+
+    public void evict(String certificateNumber) {
+        snapshots.invalidate(certificateNumber);
+    }
+
+    public Optional<Snapshot> find(String certificateNumber) {
+        return Optional.ofNullable(snapshots.getIfPresent(certificateNumber));
+    }
+}
@@ -0,0 +1,71 @@
+package com.certverify.verification.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ *
+ * Producers claim a slot with a CAS on {@code head} and publish into it; {@code offer}
+ * never blocks and returns false when the buffer is full. The consumer treats a null slot
+ * as "not yet published" and stops there, so a claimed-but-unwritten slot is picked up on
+ * the next drain.
+ */
+class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+
+    MpscRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    boolean offer(E element) {
+        while (true) {
+            long claimed = head.get();
+            if (claimed - tail >= capacity) {
+                return false;
+            }
+            if (head.compareAndSet(claimed, claimed + 1)) {
+                slots.lazySet((int) (claimed & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Hand up to {@code max} published elements to {@code sink}; only one thread may drain
+     */
+    int drain(Consumer<E> sink, int max) {
+        long next = tail;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (next & mask);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            sink.accept(element);
+            next++;
+            drained++;
+        }
+        // Volatile write publishes the freed slots to producers
+        tail = next;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, head.get() - tail);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,129 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.exception.RateLimitExceededException;
+import com.certverify.verification.util.ClientRequestUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Per-client token buckets for the verification endpoints.
+ *
+ * Clients presenting a configured X-API-Key get the API key quota; everyone else is
+ * limited per client IP. Each bucket is a single AtomicLong holding the GCRA "theoretical
+ * arrival time", which is equivalent to a token bucket of the same capacity and refill
+ * rate but can be updated with one CAS and no lock.
+ *
+ * Buckets live in a size-bounded Caffeine cache and expire once unused for the longest burst
+ * window, by which time they would have refilled anyway; a recreated bucket starts full.
+ */
+@Service
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final Quota ipQuota;
+    private final Quota apiKeyQuota;
+    private final Set<String> apiKeys;
+    private final Cache<String, AtomicLong> buckets;
+    private final Counter allowed;
+    private final Counter denied;
+
+    public RateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${verification.rate-limit.enabled:true}") boolean enabled,
+            @Value("${verification.rate-limit.ip.capacity:100}") long ipCapacity,
+            @Value("${verification.rate-limit.ip.refill-per-second:20}") double ipRefillPerSecond,
+            @Value("${verification.rate-limit.api-key.capacity:2000}") long apiKeyCapacity,
+            @Value("${verification.rate-limit.api-key.refill-per-second:500}") double apiKeyRefillPerSecond,
+            @Value("${verification.rate-limit.api-keys:}") String apiKeys,
+            @Value("${verification.rate-limit.max-buckets:100000}") long maxBuckets) {
+        this.enabled = enabled;
+        this.ipQuota = new Quota(ipCapacity, ipRefillPerSecond);
+        this.apiKeyQuota = new Quota(apiKeyCapacity, apiKeyRefillPerSecond);
+        this.apiKeys = Arrays.stream(apiKeys.split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Math.max(ipQuota.burstWindowNanos(), apiKeyQuota.burstWindowNanos()), TimeUnit.NANOSECONDS)
+                .build();
+        this.allowed = Counter.builder("verification.rate_limit.requests").tag("result", "allowed").register(meterRegistry);
+        this.denied = Counter.builder("verification.rate_limit.requests").tag("result", "denied").register(meterRegistry);
+        Gauge.builder("verification.rate_limit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Bucket capacity (burst) and steady refill rate
+     */
+    record Quota(long capacity, double refillPerSecond) {
+
+        long emissionIntervalNanos() {
+            return (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        }
+
+        long burstWindowNanos() {
+            return capacity * emissionIntervalNanos();
+        }
+    }
+
+    /**
+     * Charge {@code cost} tokens to the caller's bucket, throwing RateLimitExceededException when it cannot pay
+     */
+    public void acquire(HttpServletRequest request, int cost) {
+        if (!enabled || cost <= 0) {
+            return;
+        }
+        String apiKey = request.getHeader(ClientRequestUtil.API_KEY_HEADER);
+        boolean keyed = apiKey != null && apiKeys.contains(apiKey);
+        String bucketKey = keyed ? "key:" + apiKey : "ip:" + ClientRequestUtil.clientIp(request);
+        Quota quota = keyed ? apiKeyQuota : ipQuota;
+        if (cost > quota.capacity()) {
+            denied.increment();
+            throw new RateLimitExceededException(String.format(
+                    "Request costs %d verifications but the quota allows at most %d at once", cost, quota.capacity()),
+                    TimeUnit.NANOSECONDS.toSeconds(quota.capacity() * quota.emissionIntervalNanos()));
+        }
+
+        long waitNanos = tryAcquire(bucketKey, quota, cost, System.nanoTime());
+        if (waitNanos > 0) {
+            denied.increment();
+            throw new RateLimitExceededException("Rate limit exceeded, please retry later",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+        allowed.increment();
+    }
+
+    /**
+     * GCRA step: returns 0 when the tokens were taken, otherwise nanoseconds until they would be available
+     */
+    long tryAcquire(String bucketKey, Quota quota, int cost, long now) {
+        long interval = quota.emissionIntervalNanos();
+        long burstWindow = quota.burstWindowNanos();
+        long increment = cost * interval;
+
+        AtomicLong tat = buckets.get(bucketKey, key -> new AtomicLong(now));
+        while (true) {
+            long current = tat.get();
+            long newTat = (current - now > 0 ? current : now) + increment;
+            long excess = newTat - now - burstWindow;
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                return 0;
+            }
+        }
+    }
+}
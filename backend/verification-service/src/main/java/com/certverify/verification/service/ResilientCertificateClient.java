@@ -0,0 +1,224 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resilience layer around {@link CertificateServiceClient} and its non-blocking
+ * {@link WebClient} counterpart.
+ *
+ * Both paths share one set of guards: calls are guarded (outermost first) by a retry with jittered backoff, a circuit
+ * breaker and a concurrency bulkhead, all configured under the
+ * {@code certificateService} instance in application.yml. When hedging is enabled,
+ * a second identical GET is sent if the first has not answered within the hedge
+ * delay (set it to the observed p95) and whichever succeeds first wins; a failed
+ * primary does not cancel a pending hedge, and on the blocking path one that fails within
+ * the delay is hedged at once. Blocking lookups run on a fixed pool with no queue, sized for
+ * a primary and a hedge per call the bulkhead admits; when it is full the lookup goes
+ * without a hedge rather than waiting for a thread.
+ */
+@Service
+public class ResilientCertificateClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientCertificateClient.class);
+
+    static final String INSTANCE = "certificateService";
+
+    private final CertificateServiceClient certificateClient;
+    private final WebClient certificateWebClient;
+    private final boolean hedgingEnabled;
+    private final long hedgeDelayMs;
+    private final ExecutorService hedgeExecutor;
+
+    public ResilientCertificateClient(
+            CertificateServiceClient certificateClient,
+            @Qualifier("certificateWebClient") WebClient certificateWebClient,
+            @Value("${verification.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${verification.hedging.delay-ms:150}") long hedgeDelayMs,
+            @Value("${resilience4j.bulkhead.instances.certificateService.max-concurrent-calls:64}") int bulkheadCalls) {
+        this.certificateClient = certificateClient;
+        this.certificateWebClient = certificateWebClient;
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgeDelayMs = hedgeDelayMs;
+        // No queue: time spent waiting for a thread would count against the hedge delay
+        int hedgePoolSize = 2 * bulkheadCalls;
+        this.hedgeExecutor = hedgingEnabled
+                ? new ThreadPoolExecutor(hedgePoolSize, hedgePoolSize, 0, TimeUnit.MILLISECONDS,
+                        new SynchronousQueue<>(), hedgeThreadFactory())
+                : null;
+    }
+
+    /**
+     * Fetch certificate by certificate number (idempotent GET, safe to retry and hedge)
+     */
+    @Retry(name = INSTANCE)
+    @CircuitBreaker(name = INSTANCE)
+    @Bulkhead(name = INSTANCE)
+    public Certificate getCertificateByCertificateNumber(String certificateNumber) {
+        if (!hedgingEnabled) {
+            return certificateClient.getCertificateByCertificateNumber(certificateNumber);
+        }
+        return hedgedFetch(certificateNumber);
+    }
+
+    /**
+     * Non-blocking fetch; completes empty when the certificate does not exist
+     */
+    @Retry(name = INSTANCE)
+    @CircuitBreaker(name = INSTANCE)
+    @Bulkhead(name = INSTANCE)
+    public Mono<Certificate> getCertificateByCertificateNumberAsync(String certificateNumber) {
+        if (!hedgingEnabled) {
+            return fetchAsync(certificateNumber);
+        }
+        // First answer wins, errors included: a 404 is an answer, so it travels as an empty Optional.
+        // The hedge is only subscribed if the primary is still pending, and still races a failed primary.
+        return Mono.firstWithValue(
+                        fetchAsync(certificateNumber).map(Optional::of).defaultIfEmpty(Optional.empty()),
+                        fetchAsync(certificateNumber).map(Optional::of).defaultIfEmpty(Optional.empty())
+                                .delaySubscription(Duration.ofMillis(hedgeDelayMs)))
+                .onErrorMap(NoSuchElementException.class, ResilientCertificateClient::lastFailure)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private Mono<Certificate> fetchAsync(String certificateNumber) {
+        return certificateWebClient.get()
+                .uri("/api/certificates/{certificateNumber}", certificateNumber)
+                .exchangeToMono(response -> {
+                    if (response.statusCode() == HttpStatus.NOT_FOUND) {
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    return response.bodyToMono(Certificate.class);
+                });
+    }
+
+    private Certificate hedgedFetch(String certificateNumber) {
+        CompletableFuture<Certificate> primary = submit(certificateNumber);
+        if (primary == null) {
+            return certificateClient.getCertificateByCertificateNumber(certificateNumber);
+        }
+
+        try {
+            return primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.debug("Hedging certificate lookup for {} after {} ms", certificateNumber, hedgeDelayMs);
+        } catch (ExecutionException e) {
+            // A fast failure is hedged too; the second request may well succeed
+            logger.debug("Hedging certificate lookup for {} after the primary failed: {}", certificateNumber,
+                    e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching certificate", e);
+        }
+
+        CompletableFuture<Certificate> hedge = submit(certificateNumber);
+        try {
+            return (hedge == null ? primary : firstSuccessful(primary, hedge)).join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Start a lookup on the hedge pool, or return null if no thread is free
+     */
+    private CompletableFuture<Certificate> submit(String certificateNumber) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> certificateClient.getCertificateByCertificateNumber(certificateNumber), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Hedge pool is full, looking up {} without a hedge", certificateNumber);
+            return null;
+        }
+    }
+
+    /**
+     * Completes with the first successful result, or with the last failure if both fail
+     */
+    private static CompletableFuture<Certificate> firstSuccessful(CompletableFuture<Certificate> a,
+                                                                  CompletableFuture<Certificate> b) {
+        CompletableFuture<Certificate> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (CompletableFuture<Certificate> future : List.of(a, b)) {
+            future.whenComplete((certificate, error) -> {
+                if (error == null) {
+                    result.complete(certificate);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * When both calls fail, surface the last failure so retry and breaker can classify it
+     */
+    private static Throwable lastFailure(NoSuchElementException allFailed) {
+        if (allFailed.getCause() == null) {
+            return allFailed;
+        }
+        List<Throwable> failures = Exceptions.unwrapMultiple(allFailed.getCause());
+        return failures.get(failures.size() - 1);
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private static ThreadFactory hedgeThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "certificate-hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdownNow();
+        }
+    }
+}
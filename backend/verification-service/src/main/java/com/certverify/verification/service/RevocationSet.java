@@ -0,0 +1,86 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.RevokedCertificate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local set of revoked certificate numbers, synced incrementally from certificate-service.
+ *
+ * Signed verification tokens carry everything except the current status, so this set is
+ * what makes them revocable without a lookup. The first sync pulls the full list of revoked
+ * certificates, later ones every status change after the newest one already seen, so a
+ * certificate that is no longer revoked drops out again.
+ */
+@Service
+public class RevocationSet {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationSet.class);
+
+    private final CertificateServiceClient certificateClient;
+    private final Map<String, String> revoked = new ConcurrentHashMap<>();
+    private volatile String lastChangedAt;
+
+    public RevocationSet(CertificateServiceClient certificateClient) {
+        this.certificateClient = certificateClient;
+    }
+
+    /**
+     * Revocation reason when the certificate is known to be revoked
+     */
+    public Optional<String> find(String certificateNumber) {
+        return certificateNumber == null ? Optional.empty() : Optional.ofNullable(revoked.get(certificateNumber));
+    }
+
+    /**
+     * Record a status seen on the online path, ahead of the next sync
+     */
+    public void record(String certificateNumber, String status, String reason) {
+        if (certificateNumber == null) {
+            return;
+        }
+        if ("revoked".equalsIgnoreCase(status)) {
+            revoked.put(certificateNumber, reason == null ? "" : reason);
+        } else if ("active".equalsIgnoreCase(status)) {
+            revoked.remove(certificateNumber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${verification.revocations.refresh-interval-ms:60000}")
+    public void sync() {
+        try {
+            List<RevokedCertificate> changes = certificateClient.getRevocations(lastChangedAt);
+            String newest = lastChangedAt;
+            for (RevokedCertificate change : changes) {
+                if (change.getCertificateNumber() == null) {
+                    continue;
+                }
+                if (change.getStatus() == null || "revoked".equalsIgnoreCase(change.getStatus())) {
+                    revoked.put(change.getCertificateNumber(),
+                            change.getRevocationReason() == null ? "" : change.getRevocationReason());
+                } else {
+                    revoked.remove(change.getCertificateNumber());
+                }
+                // ISO-8601 timestamps of the same format order lexicographically
+                if (change.getChangedAt() != null && (newest == null || change.getChangedAt().compareTo(newest) > 0)) {
+                    newest = change.getChangedAt();
+                }
+            }
+            lastChangedAt = newest;
+            logger.debug("Synced {} revocations, {} revoked certificates known", changes.size(), revoked.size());
+        } catch (Exception e) {
+            logger.warn("Revocation sync failed, keeping {} known revocations: {}", revoked.size(), e.getMessage());
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
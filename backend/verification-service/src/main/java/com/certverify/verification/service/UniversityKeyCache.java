@@ -0,0 +1,134 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.University;
+import com.certverify.verification.model.UniversityPage;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local cache of university public keys, refreshed periodically from university-service.
+ *
+ * Lookups never block on the network: a miss schedules a background load of that one
+ * key and the caller proceeds without it. When university-service is down the last
+ * refreshed keys stay in place, so verification keeps working offline.
+ */
+@Service
+public class UniversityKeyCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniversityKeyCache.class);
+
+    private static final int REFRESH_PAGE_SIZE = 200;
+
+    private final UniversityServiceClient universityClient;
+    private final Map<String, CachedUniversity> universities = new ConcurrentHashMap<>();
+    private final Set<String> pendingLoads = ConcurrentHashMap.newKeySet();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "university-key-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UniversityKeyCache(UniversityServiceClient universityClient) {
+        this.universityClient = universityClient;
+    }
+
+    /**
+     * Cached university and parsed public key
+     */
+    public record CachedUniversity(University university, PublicKey publicKey) {
+    }
+
+    public Optional<CachedUniversity> find(String universityId) {
+        if (universityId == null) {
+            return Optional.empty();
+        }
+        CachedUniversity cached = universities.get(universityId);
+        if (cached == null) {
+            requestLoad(universityId);
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * Reload every university key; keys of universities that no longer exist are dropped
+     */
+    @Scheduled(fixedDelayString = "${verification.keys.refresh-interval-ms:300000}")
+    public void refreshAll() {
+        try {
+            Set<String> seen = new HashSet<>();
+            String cursor = null;
+            do {
+                UniversityPage page = universityClient.scrollUniversities(true, REFRESH_PAGE_SIZE, cursor);
+                for (University university : page.getContent()) {
+                    if (store(university)) {
+                        seen.add(university.getId());
+                    }
+                }
+                cursor = page.isHasNext() ? page.getNextCursor() : null;
+            } while (cursor != null);
+            universities.keySet().retainAll(seen);
+            logger.debug("Refreshed {} university public keys", seen.size());
+        } catch (Exception e) {
+            logger.warn("University key refresh failed, keeping {} cached keys: {}", universities.size(), e.getMessage());
+        }
+    }
+
+    public int size() {
+        return universities.size();
+    }
+
+    private void requestLoad(String universityId) {
+        if (!pendingLoads.add(universityId)) {
+            return;
+        }
+        loader.execute(() -> {
+            try {
+                store(universityClient.getUniversityPublicKey(universityId));
+            } catch (FeignException.NotFound e) {
+                logger.warn("University not found while loading public key: {}", universityId);
+            } catch (Exception e) {
+                logger.warn("Failed to load public key for university {}: {}", universityId, e.getMessage());
+            } finally {
+                pendingLoads.remove(universityId);
+            }
+        });
+    }
+
+    private boolean store(University university) {
+        if (university == null || university.getId() == null || university.getPublicKey() == null) {
+            return false;
+        }
+        try {
+            byte[] encoded = Base64.getDecoder().decode(university.getPublicKey());
+            PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(encoded));
+            // Public keys are not part of the verification response
+            university.setPublicKey(null);
+            universities.put(university.getId(), new CachedUniversity(university, publicKey));
+            return true;
+        } catch (Exception e) {
+            logger.warn("Ignoring unparseable public key for university {}: {}", university.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loader.shutdownNow();
+    }
+}
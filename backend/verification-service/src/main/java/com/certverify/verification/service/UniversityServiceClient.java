@@ -0,0 +1,21 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.University;
+import com.certverify.verification.model.UniversityPage;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@FeignClient(name = "university-service", url = "${services.university.url}")
+public interface UniversityServiceClient {
+
+    // Lists leave public keys out unless includePublicKey is set
+    @GetMapping("/api/universities/scroll")
+    UniversityPage scrollUniversities(@RequestParam("includePublicKey") boolean includePublicKey,
+                                      @RequestParam("size") int size,
+                                      @RequestParam(value = "cursor", required = false) String cursor);
+
+    @GetMapping("/api/universities/{universityId}/public-key")
+    University getUniversityPublicKey(@PathVariable("universityId") String universityId);
+}
@@ -0,0 +1,129 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.VerificationEvent;
+import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.repository.VerificationEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only record of who verified which certificate and when.
+ *
+ * The request path only offers an event to a lock-free ring buffer; a background writer
+ * drains it and batch-inserts into the audit table. When the buffer is full the event is
+ * dropped and counted (verification.audit.events{result=dropped}) rather than slowing
+ * verification down.
+ */
+@Service
+public class VerificationAuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationAuditLog.class);
+
+    private final VerificationEventRepository repository;
+    private final MpscRingBuffer<VerificationEvent> buffer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final ScheduledExecutorService writer;
+    private final Counter recorded;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    public VerificationAuditLog(
+            VerificationEventRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${verification.audit.enabled:true}") boolean enabled,
+            @Value("${verification.audit.buffer-size:65536}") int bufferSize,
+            @Value("${verification.audit.batch-size:500}") int batchSize,
+            @Value("${verification.audit.flush-interval-ms:200}") long flushIntervalMs) {
+        this.repository = repository;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.recorded = eventCounter(meterRegistry, "recorded");
+        this.dropped = eventCounter(meterRegistry, "dropped");
+        this.written = eventCounter(meterRegistry, "written");
+        this.failed = eventCounter(meterRegistry, "failed");
+        meterRegistry.gauge("verification.audit.buffer.size", buffer, MpscRingBuffer::size);
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "verification-audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            writer.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Record a verification without blocking; dropped (and counted) when the buffer is full
+     */
+    public void record(String certificateNumber, VerificationResult result, String clientIp, String userAgent) {
+        if (!enabled || certificateNumber == null) {
+            return;
+        }
+        VerificationEvent event = new VerificationEvent(
+                certificateNumber,
+                Boolean.TRUE.equals(result.getValid()),
+                result.getVerificationMethod(),
+                result.getReason(),
+                clientIp,
+                userAgent,
+                result.getTimestamp() != null ? result.getTimestamp() : LocalDateTime.now());
+        if (buffer.offer(event)) {
+            recorded.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Most recent verifications of a certificate, newest first
+     */
+    public List<VerificationEvent> history(String certificateNumber, int limit) {
+        return repository.findByCertificateNumber(certificateNumber, limit);
+    }
+
+    void flush() {
+        List<VerificationEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drain(batch::add, batchSize) > 0) {
+            try {
+                repository.saveAll(batch);
+                written.increment(batch.size());
+            } catch (Exception e) {
+                failed.increment(batch.size());
+                logger.warn("Failed to write {} verification audit events: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+        if (enabled) {
+            flush();
+        }
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("verification.audit.events")
+                .description("Verification audit events by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency and outcome meters for the verification hot path.
+ *
+ * verification.duration is end to end per path; verification.stage.duration splits it into
+ * the upstream fetch and status evaluation (serialization is timed by
+ * VerificationViewSerializer). Percentile histograms for both are enabled under
+ * management.metrics.distribution in application.yml. Every timer and counter is registered
+ * up front and looked up per verification, never rebuilt on the hot path.
+ */
+@Component
+public class VerificationMetrics {
+
+    public static final String STAGE_TIMER = "verification.stage.duration";
+
+    // Paths VerificationService records completions for
+    private static final List<String> PATHS = List.of("blocking", "reactive", "token");
+
+    private final MeterRegistry meterRegistry;
+    private final Timer fetchTimer;
+    private final Timer evaluationTimer;
+    private final Map<VerificationOutcome, Counter> outcomeCounters = new EnumMap<>(VerificationOutcome.class);
+    private final Map<String, Map<VerificationOutcome, Timer>> completionTimers = new ConcurrentHashMap<>();
+
+    public VerificationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.fetchTimer = stageTimer(meterRegistry, "fetch");
+        this.evaluationTimer = stageTimer(meterRegistry, "evaluation");
+        for (VerificationOutcome outcome : VerificationOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("verification.outcomes")
+                    .description("Verifications by outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        PATHS.forEach(path -> completionTimers.put(path, completionTimers(path)));
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordFetch(Timer.Sample sample) {
+        sample.stop(fetchTimer);
+    }
+
+    public void recordEvaluation(Timer.Sample sample) {
+        sample.stop(evaluationTimer);
+    }
+
+    /**
+     * Stop the end-to-end timer for {@code path} and count the outcome
+     */
+    public VerificationResult recordCompletion(Timer.Sample sample, String path, VerificationResult result) {
+        VerificationOutcome outcome = result.getOutcome() != null ? result.getOutcome() : VerificationOutcome.ERROR;
+        sample.stop(completionTimers.computeIfAbsent(path, this::completionTimers).get(outcome));
+        outcomeCounters.get(outcome).increment();
+        return result;
+    }
+
+    private Map<VerificationOutcome, Timer> completionTimers(String path) {
+        Map<VerificationOutcome, Timer> timers = new EnumMap<>(VerificationOutcome.class);
+        for (VerificationOutcome outcome : VerificationOutcome.values()) {
+            timers.put(outcome, Timer.builder("verification.duration")
+                    .description("End-to-end verification latency")
+                    .tag("path", path)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        return timers;
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Verification latency by stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -1,61 +1,270 @@
 package com.certverify.verification.service;
 
 import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.VerificationOutcome;
 import com.certverify.verification.model.VerificationResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
-@RequiredArgsConstructor
 public class VerificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(VerificationService.class);
 
-    private final CertificateServiceClient certificateClient;
+    private final ResilientCertificateClient certificateClient;
+    private final UniversityKeyCache universityKeyCache;
+    private final CertificateIntegrityVerifier integrityVerifier;
+    private final CertificateSnapshotCache snapshotCache;
+    private final RevocationSet revocationSet;
+    private final VerificationTokenVerifier tokenVerifier;
+    private final VerificationMetrics metrics;
+    private final CertificateReplica replica;
     private final ObjectMapper objectMapper;
 
+    // Single-flight: concurrent lookups of one certificate number share a single upstream fetch
+    private final Map<String, CompletableFuture<Certificate>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Mono<Optional<Certificate>>> inFlightAsync = new ConcurrentHashMap<>();
+    private final Counter coalescedRequests;
+    private final Counter coalescedAsyncRequests;
+
+    @Value("${verification.integrity.enforce:false}")
+    private boolean enforceIntegrity;
+
+    public VerificationService(ResilientCertificateClient certificateClient,
+                               UniversityKeyCache universityKeyCache,
+                               CertificateIntegrityVerifier integrityVerifier,
+                               CertificateSnapshotCache snapshotCache,
+                               RevocationSet revocationSet,
+                               VerificationTokenVerifier tokenVerifier,
+                               VerificationMetrics metrics,
+                               CertificateReplica replica,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.certificateClient = certificateClient;
+        this.universityKeyCache = universityKeyCache;
+        this.integrityVerifier = integrityVerifier;
+        this.snapshotCache = snapshotCache;
+        this.revocationSet = revocationSet;
+        this.tokenVerifier = tokenVerifier;
+        this.metrics = metrics;
+        this.replica = replica;
+        this.objectMapper = objectMapper;
+        this.coalescedRequests = Counter.builder("verification.requests.coalesced")
+                .description("Verifications that joined an in-flight fetch of the same certificate")
+                .tag("path", "blocking")
+                .register(meterRegistry);
+        this.coalescedAsyncRequests = Counter.builder("verification.requests.coalesced")
+                .description("Verifications that joined an in-flight fetch of the same certificate")
+                .tag("path", "reactive")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("verification.fetches.inflight", Tags.empty(), inFlight);
+        meterRegistry.gaugeMapSize("verification.fetches.inflight.reactive", Tags.empty(), inFlightAsync);
+    }
+
     /**
      * Verify certificate by certificate number
      */
     public VerificationResult verifyByCertificateNumber(String certificateNumber) {
         logger.info("Verifying certificate by number: {}", certificateNumber);
+        Timer.Sample sample = metrics.start();
 
+        VerificationResult result;
         try {
-            // Fetch certificate
-            Certificate certificate = fetchCertificateByCertificateNumber(certificateNumber);
+            // Local replica first, certificate-service on a miss
+            Optional<Certificate> local = replica.find(certificateNumber);
+            Certificate certificate = local.isPresent() ? local.get() : fetchCoalesced(certificateNumber);
+            result = timedEvaluate(certificate);
 
-            if (certificate == null) {
-                return buildInvalidResult("Certificate not found with provided certificate number");
-            }
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            logger.warn("Certificate service unavailable, shedding verification: {}", e.getMessage());
+            result = offlineOrError(certificateNumber, "Certificate service is temporarily unavailable, please retry later");
+        } catch (Exception e) {
+            logger.error("Verification failed: {}", e.getMessage());
+            result = offlineOrError(certificateNumber, "Verification failed due to internal error");
+        }
+        return metrics.recordCompletion(sample, "blocking", result);
+    }
 
-            // Check certificate status
-            if (!"active".equalsIgnoreCase(certificate.getStatus())) {
-                String reason = "revoked".equalsIgnoreCase(certificate.getStatus())
-                        ? "Certificate has been revoked. Reason: " + certificate.getRevocationReason()
-                        : "Certificate is currently suspended";
-                return buildInvalidResult(reason, certificate);
-            }
+    /**
+     * Verify certificate by certificate number without blocking the calling thread
+     */
+    public Mono<VerificationResult> verifyByCertificateNumberAsync(String certificateNumber) {
+        logger.info("Verifying certificate by number: {}", certificateNumber);
 
-            // Build successful result
-            return VerificationResult.builder()
-                    .valid(true)
-                    .certificate(certificate)
-                    .verificationMethod("certificateNumber")
-                    .timestamp(LocalDateTime.now())
-                    .reason("Certificate is valid and active")
-                    .build();
+        return Mono.defer(() -> {
+            Timer.Sample sample = metrics.start();
+            return verifyAsync(certificateNumber)
+                    .map(result -> metrics.recordCompletion(sample, "reactive", result));
+        });
+    }
 
-        } catch (Exception e) {
-            logger.error("Verification failed: {}", e.getMessage());
-            return buildErrorResult("Verification failed due to internal error");
+    private Mono<VerificationResult> verifyAsync(String certificateNumber) {
+        // Embedded point lookup, cheap enough to run on the calling thread
+        Optional<Certificate> local = replica.find(certificateNumber);
+        if (local.isPresent()) {
+            return Mono.fromSupplier(() -> timedEvaluate(local.get()));
         }
+        return fetchCoalescedAsync(certificateNumber)
+                .map(certificate -> timedEvaluate(certificate.orElse(null)))
+                .onErrorResume(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException, e -> {
+                    logger.warn("Certificate service unavailable, shedding verification: {}", e.getMessage());
+                    return Mono.fromSupplier(() -> offlineOrError(certificateNumber,
+                            "Certificate service is temporarily unavailable, please retry later"));
+                })
+                .onErrorResume(e -> {
+                    logger.error("Verification failed: {}", e.getMessage());
+                    return Mono.fromSupplier(() -> offlineOrError(certificateNumber,
+                            "Verification failed due to internal error"));
+                });
+    }
+
+    /**
+     * Verify a signed verification token (e.g. scanned from a QR code) without calling certificate-service
+     */
+    public VerificationResult verifyToken(String token) {
+        Timer.Sample sample = metrics.start();
+        return metrics.recordCompletion(sample, "token", evaluateToken(token));
+    }
+
+    private VerificationResult evaluateToken(String token) {
+        Claims claims;
+        try {
+            claims = tokenVerifier.verify(token);
+        } catch (ExpiredJwtException e) {
+            return buildTokenResult(VerificationOutcome.INVALID_TOKEN, null, "Verification token has expired");
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("Rejected verification token: {}", e.getMessage());
+            return buildTokenResult(VerificationOutcome.INVALID_TOKEN, null, "Verification token is not valid");
+        }
+
+        Certificate certificate = new Certificate();
+        certificate.setCertificateNumber(claims.getSubject());
+        certificate.setUniversityId(claims.get("uni", String.class));
+        certificate.setStudentId(claims.get("stu", String.class));
+        certificate.setStudentName(claims.get("nam", String.class));
+        certificate.setCourseName(claims.get("crs", String.class));
+        certificate.setGrade(claims.get("grd", String.class));
+        certificate.setIssueDate(claims.get("idt", String.class));
+        certificate.setCertificateHash(claims.get("h", String.class));
+
+        // The token proves content and issuer; only the status has to come from local state
+        Optional<String> revocationReason = revocationSet.find(certificate.getCertificateNumber());
+        if (revocationReason.isPresent()) {
+            certificate.setStatus("revoked");
+            certificate.setRevocationReason(revocationReason.get());
+            return buildTokenResult(VerificationOutcome.REVOKED, certificate,
+                    "Certificate has been revoked. Reason: " + revocationReason.get());
+        }
+        certificate.setStatus("active");
+
+        VerificationResult result = buildTokenResult(VerificationOutcome.VALID, certificate, "Certificate is valid and active");
+        result.setUniversity(universityKeyCache.find(certificate.getUniversityId())
+                .map(UniversityKeyCache.CachedUniversity::university)
+                .orElse(null));
+        return result;
+    }
+
+    private VerificationResult timedEvaluate(Certificate certificate) {
+        Timer.Sample sample = metrics.start();
+        try {
+            return evaluate(certificate);
+        } finally {
+            metrics.recordEvaluation(sample);
+        }
+    }
+
+    /**
+     * Evaluate a fetched certificate (null when not found) into a verification result
+     */
+    private VerificationResult evaluate(Certificate certificate) {
+        if (certificate == null) {
+            return buildInvalidResult("Certificate not found with provided certificate number");
+        }
+        revocationSet.record(certificate.getCertificateNumber(), certificate.getStatus(), certificate.getRevocationReason());
+
+        // Check certificate status
+        if (!"active".equalsIgnoreCase(certificate.getStatus())) {
+            return "revoked".equalsIgnoreCase(certificate.getStatus())
+                    ? buildInvalidResult(VerificationOutcome.REVOKED,
+                            "Certificate has been revoked. Reason: " + certificate.getRevocationReason(), certificate)
+                    : buildInvalidResult(VerificationOutcome.SUSPENDED, "Certificate is currently suspended", certificate);
+        }
+
+        // Check content hash and university signature locally
+        Optional<UniversityKeyCache.CachedUniversity> university =
+                universityKeyCache.find(certificate.getUniversityId());
+        CertificateIntegrityVerifier.Outcome integrity = integrityVerifier.verify(
+                certificate, university.map(UniversityKeyCache.CachedUniversity::publicKey).orElse(null));
+        boolean intact = integrity == CertificateIntegrityVerifier.Outcome.VERIFIED;
+
+        if (!intact && enforceIntegrity) {
+            VerificationResult result = buildInvalidResult(VerificationOutcome.INTEGRITY_FAILED,
+                    integrityFailureReason(integrity), certificate);
+            result.setIntegrityVerified(false);
+            return result;
+        }
+
+        // Build successful result
+        return VerificationResult.builder()
+                .valid(true)
+                .certificate(certificate)
+                .university(university.map(UniversityKeyCache.CachedUniversity::university).orElse(null))
+                .verificationMethod("certificateNumber")
+                .integrityVerified(intact)
+                .timestamp(LocalDateTime.now())
+                .reason("Certificate is valid and active")
+                .outcome(VerificationOutcome.VALID)
+                .build();
+    }
+
+    /**
+     * Answer from the last-known certificate snapshot when certificate-service cannot be reached
+     */
+    private VerificationResult offlineOrError(String certificateNumber, String reason) {
+        return snapshotCache.find(certificateNumber)
+                .map(snapshot -> {
+                    // A revocation synced after the snapshot was taken overrides its status
+                    Optional<String> revocationReason = revocationSet.find(certificateNumber);
+                    VerificationResult result = revocationReason.isPresent()
+                            ? buildInvalidResult(VerificationOutcome.REVOKED,
+                                    "Certificate has been revoked. Reason: " + revocationReason.get(), snapshot.certificate())
+                            : evaluate(snapshot.certificate());
+                    result.setVerificationMethod("offlineCache");
+                    result.setReason(result.getReason() + " (offline verification, status as of " + snapshot.fetchedAt() + ")");
+                    return result;
+                })
+                .orElseGet(() -> buildErrorResult(reason));
+    }
+
+    private String integrityFailureReason(CertificateIntegrityVerifier.Outcome integrity) {
+        return switch (integrity) {
+            case HASH_MISMATCH -> "Certificate content does not match its hash";
+            case SIGNATURE_INVALID -> "Certificate signature is not valid for the issuing university";
+            case KEY_UNAVAILABLE -> "Issuing university public key is not available";
+            case VERIFIED -> "Certificate is valid and active";
+        };
     }
 
     /**
@@ -82,16 +291,87 @@ public class VerificationService {
     //     }
     // }
 
+    /**
+     * Fetch through the blocking single-flight: the first caller fetches, concurrent callers wait for its result
+     */
+    private Certificate fetchCoalesced(String certificateNumber) {
+        CompletableFuture<Certificate> flight = new CompletableFuture<>();
+        CompletableFuture<Certificate> existing = inFlight.putIfAbsent(certificateNumber, flight);
+        if (existing != null) {
+            coalescedRequests.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+
+        try {
+            Certificate certificate = fetchCertificateByCertificateNumber(certificateNumber);
+            flight.complete(certificate);
+            return certificate;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(certificateNumber, flight);
+        }
+    }
+
+    /**
+     * Non-blocking single-flight: concurrent subscribers share one cached fetch until it completes
+     */
+    private Mono<Optional<Certificate>> fetchCoalescedAsync(String certificateNumber) {
+        Mono<Optional<Certificate>> existing = inFlightAsync.get(certificateNumber);
+        if (existing != null) {
+            coalescedAsyncRequests.increment();
+            return existing;
+        }
+
+        AtomicReference<Mono<Optional<Certificate>>> flight = new AtomicReference<>();
+        flight.set(Mono.defer(() -> {
+                    Timer.Sample sample = metrics.start();
+                    return certificateClient.getCertificateByCertificateNumberAsync(certificateNumber)
+                            .doFinally(signal -> metrics.recordFetch(sample));
+                })
+                .doOnNext(certificate -> {
+                    snapshotCache.put(certificate);
+                    replica.putFetched(certificate);
+                })
+                .map(Optional::of)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    snapshotCache.evict(certificateNumber);
+                    return Optional.empty();
+                }))
+                .doFinally(signal -> inFlightAsync.remove(certificateNumber, flight.get()))
+                .cache());
+
+        existing = inFlightAsync.putIfAbsent(certificateNumber, flight.get());
+        if (existing != null) {
+            coalescedAsyncRequests.increment();
+            return existing;
+        }
+        return flight.get();
+    }
+
     private Certificate fetchCertificateByCertificateNumber(String certificateNumber) {
+        Timer.Sample sample = metrics.start();
         try {
             Certificate certificate = certificateClient.getCertificateByCertificateNumber(certificateNumber);
+            snapshotCache.put(certificate);
+            replica.putFetched(certificate);
             return certificate;
         } catch (FeignException.NotFound e) {
             logger.warn("Certificate not found: {}", certificateNumber);
+            snapshotCache.evict(certificateNumber);
             return null;
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Failed to fetch certificate: {}", e.getMessage());
             throw new RuntimeException("Failed to fetch certificate", e);
+        } finally {
+            metrics.recordFetch(sample);
         }
     }
 
@@ -105,16 +385,30 @@ public class VerificationService {
                 .verificationMethod("certificateNumber")
                 .timestamp(LocalDateTime.now())
                 .reason(reason)
+                .outcome(VerificationOutcome.NOT_FOUND)
                 .build();
     }
 
-    private VerificationResult buildInvalidResult(String reason, Certificate certificate) {
+    private VerificationResult buildInvalidResult(VerificationOutcome outcome, String reason, Certificate certificate) {
         return VerificationResult.builder()
                 .valid(false)
                 .certificate(certificate)
                 .verificationMethod("certificateNumber")
                 .timestamp(LocalDateTime.now())
                 .reason(reason)
+                .outcome(outcome)
+                .build();
+    }
+
+    private VerificationResult buildTokenResult(VerificationOutcome outcome, Certificate certificate, String reason) {
+        return VerificationResult.builder()
+                .valid(outcome == VerificationOutcome.VALID)
+                .certificate(certificate)
+                .verificationMethod("signedToken")
+                // The token's signature is checked, but not the certificate hash or university signature
+                .timestamp(LocalDateTime.now())
+                .reason(reason)
+                .outcome(outcome)
                 .build();
     }
 
@@ -127,6 +421,7 @@ public class VerificationService {
                 .verificationMethod("certificateNumber")
                 .timestamp(LocalDateTime.now())
                 .reason(reason)
+                .outcome(VerificationOutcome.ERROR)
                 .build();
     }
 }
\ No newline at end of file
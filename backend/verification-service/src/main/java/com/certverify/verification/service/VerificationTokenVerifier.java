@@ -0,0 +1,111 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.TokenSigningKey;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verifies compact signed verification tokens issued by certificate-service.
+ *
+ * Token signing keys are fetched from certificate-service on a schedule and looked up by
+ * the token's kid header, so a token is checked with no network call. One parser is built
+ * up front and shared; jjwt parsers are immutable and thread-safe.
+ */
+@Service
+public class VerificationTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerificationTokenVerifier.class);
+
+    private final CertificateServiceClient certificateClient;
+    private final JwtParser parser;
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-key-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public VerificationTokenVerifier(CertificateServiceClient certificateClient) {
+        this.certificateClient = certificateClient;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Parse and verify a token, throwing JwtException when it is malformed or badly signed
+     */
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Scheduled(fixedDelayString = "${verification.tokens.key-refresh-interval-ms:300000}")
+    public void refreshKeys() {
+        try {
+            List<TokenSigningKey> published = certificateClient.getTokenKeys();
+            Map<String, PublicKey> parsed = new HashMap<>();
+            for (TokenSigningKey key : published) {
+                try {
+                    byte[] encoded = Base64.getDecoder().decode(key.getPublicKey());
+                    parsed.put(key.getKeyId(), KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(encoded)));
+                } catch (Exception e) {
+                    logger.warn("Ignoring unparseable token signing key {}: {}", key.getKeyId(), e.getMessage());
+                }
+            }
+            keys = Map.copyOf(parsed);
+            logger.debug("Refreshed {} token signing keys", parsed.size());
+        } catch (Exception e) {
+            logger.warn("Token signing key refresh failed, keeping {} cached keys: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    private Key resolveKey(String keyId) {
+        PublicKey key = keyId == null ? null : keys.get(keyId);
+        if (key == null) {
+            // The issuer may have rotated its key; pick it up in the background for the next token
+            if (refreshPending.compareAndSet(false, true)) {
+                refresher.execute(() -> {
+                    try {
+                        refreshKeys();
+                    } finally {
+                        refreshPending.set(false);
+                    }
+                });
+            }
+            throw new UnsupportedJwtException("Unknown token signing key: " + keyId);
+        }
+        return key;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,20 @@
+package com.certverify.verification.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public final class ClientRequestUtil {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    private ClientRequestUtil() {
+    }
+
+    /**
+     * The client address. With server.forward-headers-strategy=native Tomcat takes it from the
+     * X-Forwarded-For the gateway appends, but only when the peer matches TRUSTED_PROXIES.
+     * X-Forwarded-For is not read directly, since a client could send a new value with every request
+     */
+    public static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
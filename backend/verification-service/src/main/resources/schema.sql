@@ -0,0 +1,43 @@
+-- Append-only log of verifications, written in batches by VerificationAuditLog
+CREATE TABLE IF NOT EXISTS verification_events (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    certificate_number  VARCHAR(100) NOT NULL,
+    valid               BOOLEAN      NOT NULL,
+    verification_method VARCHAR(32),
+    reason              VARCHAR(500),
+    client_ip           VARCHAR(64),
+    user_agent          VARCHAR(255),
+    verified_at         TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_verification_events_certificate
+    ON verification_events (certificate_number, verified_at);
+
+-- Local replica of certificate-service, maintained by CertificateReplica
+CREATE TABLE IF NOT EXISTS certificate_replica (
+    certificate_number VARCHAR(100) PRIMARY KEY,
+    certificate_id     VARCHAR(36),
+    student_id         VARCHAR,
+    university_id      VARCHAR,
+    student_name       VARCHAR,
+    student_email      VARCHAR,
+    course_name        VARCHAR,
+    specialization     VARCHAR,
+    grade              VARCHAR,
+    cgpa               DOUBLE PRECISION,
+    issue_date         VARCHAR,
+    completion_date    VARCHAR,
+    certificate_hash   VARCHAR,
+    digital_signature  VARCHAR,
+    status             VARCHAR(20),
+    revocation_reason  VARCHAR,
+    updated_at         TIMESTAMP
+);
+
+-- Change feed position, so a restarted replica resumes instead of re-snapshotting
+CREATE TABLE IF NOT EXISTS replica_cursor (
+    name       VARCHAR(50) PRIMARY KEY,
+    since_ts   VARCHAR(40) NOT NULL,
+    after_id   VARCHAR(36),
+    updated_at TIMESTAMP   NOT NULL
+);
@@ -0,0 +1,85 @@
+package com.certverify.verification.benchmark;
+
+import com.certverify.verification.service.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link RateLimiter#acquire}: bucket lookup in the Caffeine store plus
+ * the GCRA compare-and-set. The quota is set high enough that no request is denied, so the
+ * numbers are the overhead every allowed verification pays (target: well under 1 us).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 4096;
+
+    private RateLimiter rateLimiter;
+    private MockHttpServletRequest singleClient;
+    private MockHttpServletRequest[] manyClients;
+    private MockHttpServletRequest apiKeyClient;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(new SimpleMeterRegistry(), true,
+                1_000_000_000_000L, 1e9, 1_000_000_000_000L, 1e9, "bench-key", 100_000);
+
+        singleClient = request("203.0.113.7");
+        manyClients = new MockHttpServletRequest[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            manyClients[i] = request("10.%d.%d.%d".formatted(i >> 16 & 0xff, i >> 8 & 0xff, i & 0xff));
+        }
+        apiKeyClient = request("198.51.100.20");
+        apiKeyClient.addHeader("X-API-Key", "bench-key");
+    }
+
+    @Benchmark
+    public void singleClient() {
+        rateLimiter.acquire(singleClient, 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void singleClientContended() {
+        rateLimiter.acquire(singleClient, 1);
+    }
+
+    @Benchmark
+    public void manyClients(Cursor cursor) {
+        rateLimiter.acquire(manyClients[cursor.next++ & (CLIENTS - 1)], 1);
+    }
+
+    @Benchmark
+    public void apiKeyClient() {
+        rateLimiter.acquire(apiKeyClient, 1);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/verify/CERT-1");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
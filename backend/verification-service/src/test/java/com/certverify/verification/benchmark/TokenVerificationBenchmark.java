@@ -0,0 +1,120 @@
+package com.certverify.verification.benchmark;
+
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.RevokedCertificate;
+import com.certverify.verification.model.TokenSigningKey;
+import com.certverify.verification.service.CertificateServiceClient;
+import com.certverify.verification.service.RevocationSet;
+import com.certverify.verification.service.VerificationTokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline verification of a signed verification token: ES256 signature check against the
+ * cached issuer key plus the revocation set lookup, with no network call.
+ *
+ * Single-threaded, so the score reads as verifications per second per core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class TokenVerificationBenchmark {
+
+    private static final String KEY_ID = "bench-key";
+
+    private VerificationTokenVerifier verifier;
+    private RevocationSet revocationSet;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+
+        List<RevokedCertificate> revocations = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            revocations.add(new RevokedCertificate("CERT-REVOKED-" + i, "REVOKED", "benchmark", null));
+        }
+        CertificateServiceClient client = new StaticCertificateServiceClient(
+                List.of(new TokenSigningKey(KEY_ID, "ES256",
+                        Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))),
+                revocations);
+
+        verifier = new VerificationTokenVerifier(client);
+        verifier.refreshKeys();
+        revocationSet = new RevocationSet(client);
+        revocationSet.sync();
+
+        // Same header and claims certificate-service puts in an issued token
+        token = Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setSubject("CERT-2024-000123")
+                .claim("uni", "UNI-001")
+                .claim("stu", "STU-2024-0042")
+                .claim("nam", "Jane Doe")
+                .claim("crs", "BSc Computer Science")
+                .claim("grd", "A")
+                .claim("idt", "2024-06-30")
+                .claim("h", "3f7a9c1e5b2d4f6a8c0e1b3d5f7a9c1e5b2d4f6a8c0e1b3d5f7a9c1e5b2d4f6a")
+                .setIssuedAt(new Date())
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+
+    @Benchmark
+    public Optional<String> verifyToken() {
+        Claims claims = verifier.verify(token);
+        return revocationSet.find(claims.getSubject());
+    }
+
+    private record StaticCertificateServiceClient(List<TokenSigningKey> keys, List<RevokedCertificate> revocations)
+            implements CertificateServiceClient {
+
+        @Override
+        public Certificate getCertificateByCertificateNumber(String certificateNumber) {
+            throw new IllegalStateException("Token verification must not look certificates up");
+        }
+
+        @Override
+        public List<TokenSigningKey> getTokenKeys() {
+            return keys;
+        }
+
+        @Override
+        public List<RevokedCertificate> getRevocations(String since) {
+            return revocations;
+        }
+
+        @Override
+        public List<Certificate> getReplicationChanges(String replicationKey, String since, String afterId, int limit) {
+            return List.of();
+        }
+    }
+}
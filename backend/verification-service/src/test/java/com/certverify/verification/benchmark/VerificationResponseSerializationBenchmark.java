@@ -0,0 +1,146 @@
+package com.certverify.verification.benchmark;
+
+import com.certverify.verification.dto.VerificationResponse;
+import com.certverify.verification.dto.VerificationView;
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.University;
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of one verify response: the old shape (full {@code Certificate} and
+ * {@code University} through reflective Jackson) against the lean {@link VerificationView}
+ * written by {@code VerificationViewSerializer}, with and without a {@code ?fields=} selection.
+ *
+ * Response sizes are printed once at setup; add {@code -prof gc} for allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerificationResponseSerializationBenchmark {
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper mapper;
+    private Map<String, Object> fullResponse;
+    private VerificationResponse leanResponse;
+    private VerificationResponse selectedFieldsResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        // What responses went through before: plain reflective Jackson, nulls skipped
+        reflectiveMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        // The service's shared mapper (RestTemplateConfig) with the application.yml settings
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        VerificationResult result = VerificationResult.builder()
+                .valid(true)
+                .certificate(certificate())
+                .university(university())
+                .verificationMethod("certificateNumber")
+                .integrityVerified(true)
+                .timestamp(LocalDateTime.of(2026, 10, 18, 12, 30, 15))
+                .reason("Certificate is valid and active")
+                .outcome(VerificationOutcome.VALID)
+                .build();
+
+        fullResponse = new LinkedHashMap<>();
+        fullResponse.put("success", true);
+        fullResponse.put("data", result);
+        fullResponse.put("message", "Certificate verified successfully");
+
+        leanResponse = response(VerificationView.from(result, null));
+        selectedFieldsResponse = response(VerificationView.from(result, VerificationView.parseFields("studentName,status")));
+
+        System.out.printf("%nresponse bytes: full=%d lean=%d fields=studentName,status=%d%n",
+                fullResult().length, leanView().length, leanViewSelectedFields().length);
+    }
+
+    @Benchmark
+    public byte[] fullResult() throws Exception {
+        return reflectiveMapper.writeValueAsBytes(fullResponse);
+    }
+
+    @Benchmark
+    public byte[] leanView() throws Exception {
+        return mapper.writeValueAsBytes(leanResponse);
+    }
+
+    @Benchmark
+    public byte[] leanViewSelectedFields() throws Exception {
+        return mapper.writeValueAsBytes(selectedFieldsResponse);
+    }
+
+    private static VerificationResponse response(VerificationView view) {
+        return VerificationResponse.builder()
+                .success(true)
+                .data(view)
+                .message("Certificate verified successfully")
+                .build();
+    }
+
+    private static Certificate certificate() {
+        Certificate certificate = new Certificate();
+        certificate.setCertificateId("6f1c2b7e-9a4d-4c1e-8b3a-2d5f7e9a1c3b");
+        certificate.setCertificateNumber("CERT-2024-000123");
+        certificate.setStudentId("STU-2024-0042");
+        certificate.setUniversityId("UNI-001");
+        certificate.setStudentName("Jane Doe");
+        certificate.setStudentEmail("jane.doe@student.example.edu");
+        certificate.setCourseName("BSc Computer Science");
+        certificate.setSpecialization("Distributed Systems");
+        certificate.setGrade("A");
+        certificate.setCgpa(3.87);
+        certificate.setIssueDate("2024-06-30");
+        certificate.setCompletionDate("2024-05-31");
+        certificate.setCertificateHash("3f7a9c1e5b2d4f6a8c0e1b3d5f7a9c1e5b2d4f6a8c0e1b3d5f7a9c1e5b2d4f6a");
+        certificate.setDigitalSignature("MEUCIQDx3v1o8m0c4kq0l2Yk9yq7m1wq2b3c4d5e6f7g8h9i0jAiB1k2l3m4n5o6p7q8r9s0t1u2v3w4x5y6z7a8b9c0d1e2f3g4h5");
+        certificate.setVerificationCode("VRF-7K2M-9Q4X");
+        certificate.setPdfPath("/data/certificates/UNI-001/2024/CERT-2024-000123.pdf");
+        certificate.setStatus("active");
+        certificate.setCreatedAt("2024-06-30T09:15:00");
+        certificate.setUpdatedAt("2024-06-30T09:15:00");
+        return certificate;
+    }
+
+    private static University university() {
+        University university = new University();
+        university.setId("UNI-001");
+        university.setName("Example State University");
+        university.setEmail("registrar@example.edu");
+        university.setAddress("1 University Avenue, Springfield");
+        university.setPhone("+1-555-0100");
+        university.setVerified(true);
+        return university;
+    }
+}
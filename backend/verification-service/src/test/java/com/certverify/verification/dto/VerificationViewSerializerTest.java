@@ -0,0 +1,205 @@
+package com.certverify.verification.dto;
+
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.University;
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import com.certverify.verification.config.RestTemplateConfig;
+import com.certverify.verification.service.VerificationMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written serializer must write exactly what reflective Jackson writes for the same
+ * values, less nulls and the fields a {@code ?fields=} selection leaves out.
+ */
+class VerificationViewSerializerTest {
+
+    private static final Set<String> UNIVERSITY_FIELDS = Set.of("id", "name", "verified");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AnnotationConfigApplicationContext context = context(meterRegistry);
+
+    // The service's shared mapper, whose serializers Spring builds with the context's MeterRegistry
+    private final ObjectMapper mapper = new RestTemplateConfig().objectMapper(context.getAutowireCapableBeanFactory());
+
+    @AfterEach
+    void closeContext() {
+        context.close();
+    }
+
+    @Test
+    void writesEveryFieldWithoutSelection() throws Exception {
+        assertMatchesJackson(view(certificate(), null));
+    }
+
+    @Test
+    void skipsNullFields() throws Exception {
+        Certificate certificate = certificate();
+        certificate.setSpecialization(null);
+        certificate.setCgpa(null);
+        certificate.setRevocationReason(null);
+        VerificationResult result = result(certificate);
+        result.setIntegrityVerified(null);
+        result.setUniversity(null);
+
+        VerificationView view = VerificationView.from(result, null);
+        JsonNode written = assertMatchesJackson(view);
+        assertThat(written.has("integrityVerified")).isFalse();
+        assertThat(written.has("university")).isFalse();
+        assertThat(written.get("certificate").has("cgpa")).isFalse();
+    }
+
+    @Test
+    void writesOnlySelectedCertificateFields() throws Exception {
+        JsonNode written = assertMatchesJackson(view(certificate(), "studentName, status"));
+
+        assertThat(written.get("certificate").size()).isEqualTo(2);
+        assertThat(written.has("university")).isFalse();
+        assertThat(written.has("timestamp")).isFalse();
+    }
+
+    @Test
+    void certificateSelectsTheWholeProjection() throws Exception {
+        JsonNode written = assertMatchesJackson(view(certificate(), "certificate,verificationMethod"));
+
+        assertThat(written.get("certificate").size()).isEqualTo(11);
+        assertThat(written.get("verificationMethod").asText()).isEqualTo("certificateNumber");
+    }
+
+    @Test
+    void selectionWithoutCertificateFieldsLeavesTheCertificateOut() throws Exception {
+        JsonNode written = assertMatchesJackson(view(certificate(), "university,integrityVerified,timestamp"));
+
+        assertThat(written.has("certificate")).isFalse();
+        assertThat(written.get("university").size()).isEqualTo(3);
+    }
+
+    @Test
+    void validAndReasonAreAlwaysWritten() throws Exception {
+        JsonNode written = assertMatchesJackson(view(certificate(), "unknownField"));
+
+        assertThat(written.size()).isEqualTo(2);
+        assertThat(written.get("valid").asBoolean()).isTrue();
+        assertThat(written.get("reason").asText()).isEqualTo("Certificate is valid and active");
+    }
+
+    @Test
+    void recordsSerializationTimeOnTheGivenRegistry() throws Exception {
+        mapper.writeValueAsString(view(certificate(), null));
+        mapper.writeValueAsString(view(certificate(), "studentName"));
+
+        assertThat(meterRegistry.get(VerificationMetrics.STAGE_TIMER).tag("stage", "serialization").timer().count())
+                .isEqualTo(2);
+    }
+
+    private JsonNode assertMatchesJackson(VerificationView view) throws Exception {
+        JsonNode written = mapper.readTree(mapper.writeValueAsString(view));
+        assertThat(written).isEqualTo(expected(view));
+        return written;
+    }
+
+    /**
+     * Reflective Jackson output of the view's parts, pruned to the selection
+     */
+    private JsonNode expected(VerificationView view) {
+        Set<String> fields = view.fields();
+        ObjectNode node = mapper.createObjectNode();
+        node.put("valid", view.valid());
+        if (view.certificate() != null && (fields == null || fields.contains("certificate")
+                || fields.stream().anyMatch(CertificateView.FIELDS::contains))) {
+            ObjectNode certificate = mapper.valueToTree(view.certificate());
+            if (fields != null && !fields.contains("certificate")) {
+                certificate.retain(fields);
+            }
+            node.set("certificate", withoutNulls(certificate));
+        }
+        if (view.university() != null && selected(fields, "university")) {
+            node.set("university", withoutNulls(((ObjectNode) mapper.valueToTree(view.university()))
+                    .retain(UNIVERSITY_FIELDS)));
+        }
+        if (view.verificationMethod() != null && selected(fields, "verificationMethod")) {
+            node.put("verificationMethod", view.verificationMethod());
+        }
+        if (view.integrityVerified() != null && selected(fields, "integrityVerified")) {
+            node.put("integrityVerified", view.integrityVerified());
+        }
+        if (view.timestamp() != null && selected(fields, "timestamp")) {
+            node.set("timestamp", mapper.valueToTree(view.timestamp()));
+        }
+        if (view.reason() != null) {
+            node.put("reason", view.reason());
+        }
+        return node;
+    }
+
+    private static AnnotationConfigApplicationContext context(SimpleMeterRegistry meterRegistry) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(SimpleMeterRegistry.class, () -> meterRegistry);
+        context.refresh();
+        return context;
+    }
+
+    private static boolean selected(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    private static ObjectNode withoutNulls(ObjectNode node) {
+        node.properties().removeIf(field -> field.getValue().isNull());
+        return node;
+    }
+
+    private static VerificationView view(Certificate certificate, String fields) {
+        return VerificationView.from(result(certificate), VerificationView.parseFields(fields));
+    }
+
+    private static VerificationResult result(Certificate certificate) {
+        University university = new University();
+        university.setId("UNI-001");
+        university.setName("Example State University");
+        university.setEmail("registrar@example.edu");
+        university.setPhone("+1-555-0100");
+        university.setPublicKey("MIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEA");
+        university.setVerified(true);
+
+        return VerificationResult.builder()
+                .valid(true)
+                .certificate(certificate)
+                .university(university)
+                .verificationMethod("certificateNumber")
+                .integrityVerified(true)
+                .timestamp(LocalDateTime.of(2026, 10, 18, 12, 30, 15))
+                .reason("Certificate is valid and active")
+                .outcome(VerificationOutcome.VALID)
+                .build();
+    }
+
+    private static Certificate certificate() {
+        Certificate certificate = new Certificate();
+        certificate.setCertificateNumber("CERT-2024-000123");
+        certificate.setStudentId("STU-2024-0042");
+        certificate.setUniversityId("UNI-001");
+        certificate.setStudentName("Jane Doe");
+        certificate.setStudentEmail("jane.doe@student.example.edu");
+        certificate.setCourseName("BSc Computer Science");
+        certificate.setSpecialization("Distributed Systems");
+        certificate.setGrade("A");
+        certificate.setCgpa(3.87);
+        certificate.setIssueDate("2024-06-30");
+        certificate.setCompletionDate("2024-05-31");
+        certificate.setDigitalSignature("c2lnbmF0dXJl");
+        certificate.setStatus("active");
+        certificate.setRevocationReason("none");
+        return certificate;
+    }
+}
@@ -0,0 +1,108 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hashes are checked against the fixtures certificate-service's CertificateHashUtil is tested
+ * with; signatures are made the way university-service signs a certificate hash.
+ */
+class CertificateIntegrityVerifierTest {
+
+    private static final Path FIXTURES = Path.of("../shared/fixtures/certificate-hash.json");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static KeyPair universityKey;
+    private static JsonNode cases;
+
+    private final CertificateIntegrityVerifier verifier = new CertificateIntegrityVerifier();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        universityKey = generator.generateKeyPair();
+        cases = objectMapper.readTree(FIXTURES.toFile()).get("cases");
+    }
+
+    @Test
+    void matchesSharedFixtures() throws IOException {
+        assertThat(cases).isNotEmpty();
+        for (JsonNode fixture : cases) {
+            assertThat(verifier.computeHash(certificate(fixture)))
+                    .as(fixture.get("description").asText())
+                    .isEqualTo(fixture.get("certificateHash").asText());
+        }
+    }
+
+    @Test
+    void universitySignedCertificateIsVerified() throws Exception {
+        Certificate certificate = signed(cases.get(0));
+
+        assertThat(verifier.verify(certificate, universityKey.getPublic()))
+                .isEqualTo(CertificateIntegrityVerifier.Outcome.VERIFIED);
+    }
+
+    @Test
+    void editedFieldIsAHashMismatch() throws Exception {
+        Certificate certificate = signed(cases.get(0));
+        certificate.setGrade("A+");
+
+        assertThat(verifier.verify(certificate, universityKey.getPublic()))
+                .isEqualTo(CertificateIntegrityVerifier.Outcome.HASH_MISMATCH);
+    }
+
+    @Test
+    void placeholderOrForeignSignatureIsInvalid() throws Exception {
+        Certificate placeholder = certificate(cases.get(0));
+        placeholder.setCertificateHash(cases.get(0).get("certificateHash").asText());
+        placeholder.setDigitalSignature("mock-digital-signature");
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        Certificate foreign = signed(cases.get(0));
+
+        assertThat(verifier.verify(placeholder, universityKey.getPublic()))
+                .isEqualTo(CertificateIntegrityVerifier.Outcome.SIGNATURE_INVALID);
+        assertThat(verifier.verify(foreign, generator.generateKeyPair().getPublic()))
+                .isEqualTo(CertificateIntegrityVerifier.Outcome.SIGNATURE_INVALID);
+    }
+
+    @Test
+    void missingUniversityKeyIsReported() throws Exception {
+        assertThat(verifier.verify(signed(cases.get(0)), null))
+                .isEqualTo(CertificateIntegrityVerifier.Outcome.KEY_UNAVAILABLE);
+    }
+
+    private static Certificate certificate(JsonNode fixture) throws IOException {
+        return objectMapper.treeToValue(fixture.get("certificate"), Certificate.class);
+    }
+
+    private static Certificate signed(JsonNode fixture) throws IOException, GeneralSecurityException {
+        Certificate certificate = certificate(fixture);
+        String hash = fixture.get("certificateHash").asText();
+        Signature signer = Signature.getInstance("SHA256withRSA");
+        signer.initSign(universityKey.getPrivate());
+        signer.update(hash.getBytes(StandardCharsets.UTF_8));
+        certificate.setCertificateHash(hash);
+        certificate.setDigitalSignature(Base64.getEncoder().encodeToString(signer.sign()));
+        return certificate;
+    }
+}
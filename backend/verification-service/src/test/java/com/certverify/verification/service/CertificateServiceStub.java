@@ -0,0 +1,172 @@
+package com.certverify.verification.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal HTTP/1.1 stand-in for certificate-service with switchable faults.
+ *
+ * Raw sockets rather than a full HTTP server so a connection can be reset (RST) mid-request.
+ * Only certificate lookups ({@code /api/certificates/CERT-*}) are counted and faulted; every
+ * other path, such as the background key and revocation syncs, answers 404.
+ */
+final class CertificateServiceStub implements AutoCloseable {
+
+    enum Fault { NONE, SERVICE_UNAVAILABLE, CONNECTION_RESET, BAD_REQUEST }
+
+    /**
+     * How one lookup is answered, overriding the current latency and fault
+     */
+    record Step(long latencyMs, Fault fault) {
+    }
+
+    private static final String LOOKUP_PREFIX = "/api/certificates/";
+
+    private final ServerSocket server;
+    private final ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "certificate-stub");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    private volatile Fault fault = Fault.NONE;
+    private volatile long latencyMs;
+    private final Queue<Step> script = new ConcurrentLinkedQueue<>();
+
+    CertificateServiceStub() {
+        try {
+            server = new ServerSocket(0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start certificate-service stub", e);
+        }
+        workers.submit(this::acceptLoop);
+    }
+
+    String url() {
+        return "http://localhost:" + server.getLocalPort();
+    }
+
+    void fault(Fault fault) {
+        this.fault = fault;
+    }
+
+    void latency(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * Answer the next lookups with these steps, in arrival order
+     */
+    void script(Step... steps) {
+        script.addAll(List.of(steps));
+    }
+
+    int lookups() {
+        return lookups.get();
+    }
+
+    int maxConcurrentLookups() {
+        return maxActive.get();
+    }
+
+    void reset() {
+        fault = Fault.NONE;
+        latencyMs = 0;
+        script.clear();
+        lookups.set(0);
+        maxActive.set(0);
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                workers.submit(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String requestLine = in.readLine();
+            if (requestLine == null) {
+                return;
+            }
+            String line;
+            do {
+                line = in.readLine();
+            } while (line != null && !line.isEmpty());
+
+            String path = requestLine.split(" ")[1];
+            if (!path.startsWith(LOOKUP_PREFIX + "CERT-")) {
+                write(socket, 404, "{\"error\":\"not found\"}");
+                return;
+            }
+            lookups.incrementAndGet();
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            Step step = script.poll();
+            long delay = step != null ? step.latencyMs() : latencyMs;
+            try {
+                if (delay > 0) {
+                    Thread.sleep(delay);
+                }
+                switch (step != null ? step.fault() : fault) {
+                    // Linger 0 turns the close into a TCP reset instead of an orderly FIN
+                    case CONNECTION_RESET -> socket.setSoLinger(true, 0);
+                    case SERVICE_UNAVAILABLE -> write(socket, 503, "{\"error\":\"unavailable\"}");
+                    case BAD_REQUEST -> write(socket, 400, "{\"error\":\"bad request\"}");
+                    case NONE -> write(socket, 200, certificateJson(path.substring(LOOKUP_PREFIX.length())));
+                }
+            } finally {
+                active.decrementAndGet();
+            }
+        } catch (IOException e) {
+            // Client gave up (timeout or cancelled hedge); nothing to answer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String certificateJson(String certificateNumber) {
+        return "{\"certificateNumber\":\"" + certificateNumber + "\",\"universityId\":\"UNI-STUB\",\"status\":\"active\"}";
+    }
+
+    private static void write(Socket socket, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String head = "HTTP/1.1 " + status + " STUB\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: " + bytes.length + "\r\n"
+                + "Connection: close\r\n\r\n";
+        OutputStream out = socket.getOutputStream();
+        out.write(head.getBytes(StandardCharsets.US_ASCII));
+        out.write(bytes);
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.close();
+        } catch (IOException ignored) {
+            // Already closed
+        }
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.Certificate;
+import com.certverify.verification.model.RevokedCertificate;
+import com.certverify.verification.model.TokenSigningKey;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * In-memory certificate-service client for unit tests of the synced local state: published
+ * token keys, and one revocation batch per sync, recording the since cursor each sync sent.
+ */
+class FakeCertificateServiceClient implements CertificateServiceClient {
+
+    volatile List<TokenSigningKey> tokenKeys = List.of();
+    final Queue<List<RevokedCertificate>> revocationBatches = new ArrayDeque<>();
+    final List<String> revocationCursors = new ArrayList<>();
+
+    @Override
+    public Certificate getCertificateByCertificateNumber(String certificateNumber) {
+        throw new IllegalStateException("Unexpected certificate lookup: " + certificateNumber);
+    }
+
+    @Override
+    public List<TokenSigningKey> getTokenKeys() {
+        return tokenKeys;
+    }
+
+    @Override
+    public synchronized List<RevokedCertificate> getRevocations(String since) {
+        revocationCursors.add(since);
+        List<RevokedCertificate> batch = revocationBatches.poll();
+        if (batch == null) {
+            throw new IllegalStateException("certificate-service unavailable");
+        }
+        return batch;
+    }
+
+    @Override
+    public List<Certificate> getReplicationChanges(String replicationKey, String since, String afterId, int limit) {
+        return List.of();
+    }
+}
@@ -0,0 +1,120 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.exception.RateLimitExceededException;
+import com.certverify.verification.util.ClientRequestUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Token bucket behaviour of the GCRA limiter: burst up to capacity, refill at the configured
+ * rate, bulk requests charged per certificate, and separate buckets per API key and IP.
+ */
+class RateLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // 10 tokens, one every 100 ms
+    private final RateLimiter.Quota quota = new RateLimiter.Quota(10, 10);
+
+    @Test
+    void burstsUpToCapacityThenReportsTheWait() {
+        RateLimiter limiter = limiter("");
+        long now = 1_000_000 * MS;
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("ip:a", quota, 1, now)).isZero();
+        }
+        assertThat(limiter.tryAcquire("ip:a", quota, 1, now)).isEqualTo(100 * MS);
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        RateLimiter limiter = limiter("");
+        long now = 1_000_000 * MS;
+        assertThat(limiter.tryAcquire("ip:a", quota, 10, now)).isZero();
+
+        assertThat(limiter.tryAcquire("ip:a", quota, 1, now + 99 * MS)).isEqualTo(MS);
+        assertThat(limiter.tryAcquire("ip:a", quota, 1, now + 100 * MS)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", quota, 1, now + 100 * MS)).isEqualTo(100 * MS);
+
+        // Idle for longer than the burst window: full again, but never beyond capacity
+        long later = now + 5_000 * MS;
+        assertThat(limiter.tryAcquire("ip:a", quota, 10, later)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", quota, 1, later)).isPositive();
+    }
+
+    @Test
+    void deniedRequestTakesNoTokens() {
+        RateLimiter limiter = limiter("");
+        long now = 1_000_000 * MS;
+        assertThat(limiter.tryAcquire("ip:a", quota, 8, now)).isZero();
+
+        assertThat(limiter.tryAcquire("ip:a", quota, 3, now)).isEqualTo(100 * MS);
+        assertThat(limiter.tryAcquire("ip:a", quota, 2, now)).isZero();
+    }
+
+    @Test
+    void bulkRequestsAreChargedPerCertificate() {
+        RateLimiter limiter = limiter("", 10, 2000);
+        MockHttpServletRequest request = request("203.0.113.7", null);
+
+        limiter.acquire(request, 6);
+        limiter.acquire(request, 4);
+
+        assertThatThrownBy(() -> limiter.acquire(request, 1))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfterSeconds()).isPositive());
+    }
+
+    @Test
+    void bulkLargerThanCapacityIsRejectedOutright() {
+        RateLimiter limiter = limiter("", 10, 2000);
+
+        assertThatThrownBy(() -> limiter.acquire(request("203.0.113.7", null), 11))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("at most 10");
+        // Nothing was charged
+        limiter.acquire(request("203.0.113.7", null), 10);
+    }
+
+    @Test
+    void apiKeysGetTheirOwnQuotaAndUnknownKeysFallBackToIp() {
+        RateLimiter limiter = limiter("partner-key", 10, 2000);
+
+        limiter.acquire(request("203.0.113.7", "partner-key"), 1000);
+        limiter.acquire(request("203.0.113.7", null), 10);
+        assertThatThrownBy(() -> limiter.acquire(request("203.0.113.7", "guessed-key"), 1))
+                .isInstanceOf(RateLimitExceededException.class);
+        limiter.acquire(request("198.51.100.1", "guessed-key"), 10);
+    }
+
+    @Test
+    void disabledLimiterChargesNothing() {
+        RateLimiter limiter = new RateLimiter(new SimpleMeterRegistry(), false, 1, 1, 1, 1, "", 100);
+
+        limiter.acquire(request("203.0.113.7", null), 1000);
+    }
+
+    private static RateLimiter limiter(String apiKeys) {
+        return limiter(apiKeys, 100, 2000);
+    }
+
+    private static RateLimiter limiter(String apiKeys, long ipCapacity, long apiKeyCapacity) {
+        return new RateLimiter(new SimpleMeterRegistry(), true, ipCapacity, 1, apiKeyCapacity, 1, apiKeys, 1000);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/verify/bulk");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader(ClientRequestUtil.API_KEY_HEADER, apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,277 @@
+package com.certverify.verification.service;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Drives {@link ResilientCertificateClient} against a local stub that injects latency, 503s and
+ * connection resets, on both the Feign and the WebClient path.
+ *
+ * The breaker window, bulkhead and backoff are shrunk so each scenario trips within a few calls.
+ * Hedging is off in the shared context; the hedging cases build their own hedged client on the
+ * same Feign and WebClient beans.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fault-injection;DB_CLOSE_DELAY=-1",
+        "verification.audit.enabled=false",
+        "verification.hedging.enabled=false",
+        "resilience4j.circuitbreaker.instances.certificateService.sliding-window-size=10",
+        "resilience4j.circuitbreaker.instances.certificateService.minimum-number-of-calls=10",
+        "resilience4j.circuitbreaker.instances.certificateService.wait-duration-in-open-state=60s",
+        "resilience4j.circuitbreaker.instances.certificateService.slow-call-duration-threshold=200ms",
+        "resilience4j.bulkhead.instances.certificateService.max-concurrent-calls=2",
+        "resilience4j.bulkhead.instances.certificateService.max-wait-duration=20ms",
+        "resilience4j.retry.instances.certificateService.wait-duration=10ms"
+})
+class ResilientCertificateClientFaultInjectionTest {
+
+    private static final CertificateServiceStub stub = new CertificateServiceStub();
+
+    @Autowired
+    private ResilientCertificateClient client;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private RetryRegistry retryRegistry;
+
+    @Autowired
+    private CertificateServiceClient certificateClient;
+
+    @Autowired
+    @Qualifier("certificateWebClient")
+    private WebClient certificateWebClient;
+
+    @DynamicPropertySource
+    static void stubUrls(DynamicPropertyRegistry registry) {
+        registry.add("services.certificate.url", stub::url);
+        registry.add("services.university.url", stub::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void resetFaults() {
+        stub.reset();
+        breaker().reset();
+    }
+
+    @Test
+    void serviceUnavailableIsRetriedThenOpensTheBreaker() {
+        stub.fault(CertificateServiceStub.Fault.SERVICE_UNAVAILABLE);
+
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumber("CERT-503"))
+                .isInstanceOf(FeignException.ServiceUnavailable.class);
+        assertThat(stub.lookups()).isEqualTo(3);
+
+        // Every retried attempt is a failed call in the breaker window
+        for (int i = 0; i < 5 && breaker().getState() == CircuitBreaker.State.CLOSED; i++) {
+            assertThatThrownBy(() -> client.getCertificateByCertificateNumber("CERT-503"))
+                    .isInstanceOfAny(FeignException.ServiceUnavailable.class, CallNotPermittedException.class);
+        }
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int lookupsWhenOpened = stub.lookups();
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumber("CERT-503"))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumberAsync("CERT-503").block())
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(stub.lookups()).isEqualTo(lookupsWhenOpened);
+    }
+
+    @Test
+    void serviceUnavailableIsRetriedOnTheReactivePath() {
+        stub.fault(CertificateServiceStub.Fault.SERVICE_UNAVAILABLE);
+
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumberAsync("CERT-503").block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(stub.lookups()).isEqualTo(3);
+    }
+
+    @Test
+    void connectionResetIsRetriedOnBothPaths() {
+        stub.fault(CertificateServiceStub.Fault.CONNECTION_RESET);
+        long exhaustedBefore = retry().getMetrics().getNumberOfFailedCallsWithRetryAttempt();
+
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumber("CERT-RST"))
+                .isInstanceOf(RetryableException.class);
+        // HttpURLConnection may itself resend an idempotent GET once per attempt, so only bound from below
+        assertThat(stub.lookups()).isGreaterThanOrEqualTo(3);
+        assertThat(retry().getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(exhaustedBefore + 1);
+
+        int lookupsBefore = stub.lookups();
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumberAsync("CERT-RST").block())
+                .isInstanceOf(WebClientRequestException.class);
+        assertThat(stub.lookups() - lookupsBefore).isEqualTo(3);
+        assertThat(retry().getMetrics().getNumberOfFailedCallsWithRetryAttempt()).isEqualTo(exhaustedBefore + 2);
+    }
+
+    @Test
+    void recoversOnceTheFaultClears() {
+        stub.fault(CertificateServiceStub.Fault.CONNECTION_RESET);
+        assertThatThrownBy(() -> client.getCertificateByCertificateNumber("CERT-OK"))
+                .isInstanceOf(RetryableException.class);
+
+        stub.fault(CertificateServiceStub.Fault.NONE);
+        assertThat(client.getCertificateByCertificateNumber("CERT-OK").getStatus()).isEqualTo("active");
+        assertThat(client.getCertificateByCertificateNumberAsync("CERT-OK").block().getCertificateNumber())
+                .isEqualTo("CERT-OK");
+    }
+
+    @Test
+    void slowResponsesAreShedByTheBulkhead() throws Exception {
+        stub.latency(500);
+
+        int callers = 6;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> calls = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        client.getCertificateByCertificateNumber("CERT-SLOW");
+                    } catch (BulkheadFullException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Rejected calls never reach the stub, and it never sees more than the bulkhead allows
+        assertThat(rejected.get()).isPositive();
+        assertThat(stub.lookups()).isEqualTo(callers - rejected.get());
+        assertThat(stub.maxConcurrentLookups()).isLessThanOrEqualTo(2);
+        // Shedding load locally is not a certificate-service failure
+        assertThat(breaker().getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void badRequestsDoNotOpenTheBreaker() {
+        stub.fault(CertificateServiceStub.Fault.BAD_REQUEST);
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> client.getCertificateByCertificateNumber("CERT-BAD"))
+                    .isInstanceOf(FeignException.BadRequest.class);
+            assertThatThrownBy(() -> client.getCertificateByCertificateNumberAsync("CERT-BAD").block())
+                    .isInstanceOf(WebClientResponseException.BadRequest.class);
+        }
+        // Not retried, and not counted against the breaker
+        assertThat(stub.lookups()).isEqualTo(20);
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker().getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void slowResponsesOpenTheBreaker() {
+        stub.latency(300);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(client.getCertificateByCertificateNumberAsync("CERT-SLOW").block()).isNotNull();
+        }
+        assertThat(breaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker().getMetrics().getNumberOfSlowSuccessfulCalls()).isEqualTo(10);
+    }
+
+    @Test
+    void slowPrimaryIsHedged() {
+        ResilientCertificateClient hedged = hedgedClient();
+        try {
+            stub.script(new CertificateServiceStub.Step(3000, CertificateServiceStub.Fault.NONE),
+                    new CertificateServiceStub.Step(0, CertificateServiceStub.Fault.NONE));
+            long started = System.nanoTime();
+            assertThat(hedged.getCertificateByCertificateNumber("CERT-HEDGE").getCertificateNumber())
+                    .isEqualTo("CERT-HEDGE");
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2000);
+            assertThat(stub.lookups()).isEqualTo(2);
+
+            stub.reset();
+            stub.script(new CertificateServiceStub.Step(3000, CertificateServiceStub.Fault.NONE),
+                    new CertificateServiceStub.Step(0, CertificateServiceStub.Fault.NONE));
+            started = System.nanoTime();
+            assertThat(hedged.getCertificateByCertificateNumberAsync("CERT-HEDGE").block().getCertificateNumber())
+                    .isEqualTo("CERT-HEDGE");
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2000);
+            assertThat(stub.lookups()).isEqualTo(2);
+        } finally {
+            hedged.shutdown();
+        }
+    }
+
+    @Test
+    void fastFailingPrimaryIsHedged() {
+        ResilientCertificateClient hedged = hedgedClient();
+        try {
+            stub.script(new CertificateServiceStub.Step(0, CertificateServiceStub.Fault.SERVICE_UNAVAILABLE),
+                    new CertificateServiceStub.Step(0, CertificateServiceStub.Fault.NONE));
+            assertThat(hedged.getCertificateByCertificateNumber("CERT-HEDGE").getStatus()).isEqualTo("active");
+            assertThat(stub.lookups()).isEqualTo(2);
+
+            stub.reset();
+            stub.script(new CertificateServiceStub.Step(0, CertificateServiceStub.Fault.SERVICE_UNAVAILABLE),
+                    new CertificateServiceStub.Step(0, CertificateServiceStub.Fault.NONE));
+            assertThat(hedged.getCertificateByCertificateNumberAsync("CERT-HEDGE").block().getStatus())
+                    .isEqualTo("active");
+            assertThat(stub.lookups()).isEqualTo(2);
+        } finally {
+            hedged.shutdown();
+        }
+    }
+
+    /**
+     * Hedged client without the Resilience4j aspects, so a single call shows exactly what hedging sends
+     */
+    private ResilientCertificateClient hedgedClient() {
+        return new ResilientCertificateClient(certificateClient, certificateWebClient, true, 100, 2);
+    }
+
+    private Retry retry() {
+        return retryRegistry.retry(ResilientCertificateClient.INSTANCE);
+    }
+
+    private CircuitBreaker breaker() {
+        return circuitBreakerRegistry.circuitBreaker(ResilientCertificateClient.INSTANCE);
+    }
+}
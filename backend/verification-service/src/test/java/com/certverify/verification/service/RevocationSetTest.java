@@ -0,0 +1,72 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.RevokedCertificate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The local revocation set follows certificate-service's change feed incrementally and
+ * survives a failed sync.
+ */
+class RevocationSetTest {
+
+    private final FakeCertificateServiceClient client = new FakeCertificateServiceClient();
+    private final RevocationSet revocationSet = new RevocationSet(client);
+
+    @Test
+    void firstSyncLoadsRevokedCertificates() {
+        client.revocationBatches.add(List.of(
+                new RevokedCertificate("CERT-1", "REVOKED", "Academic misconduct", "2025-06-01T10:00:00"),
+                new RevokedCertificate("CERT-2", "REVOKED", null, "2025-06-02T10:00:00")));
+
+        revocationSet.sync();
+
+        assertThat(revocationSet.find("CERT-1")).contains("Academic misconduct");
+        assertThat(revocationSet.find("CERT-2")).contains("");
+        assertThat(revocationSet.find("CERT-3")).isEmpty();
+        assertThat(revocationSet.size()).isEqualTo(2);
+    }
+
+    @Test
+    void laterSyncsAskForChangesAfterTheNewestSeenAndDropReinstatements() {
+        client.revocationBatches.add(List.of(
+                new RevokedCertificate("CERT-1", "REVOKED", "Fraud", "2025-06-02T10:00:00"),
+                new RevokedCertificate("CERT-2", "REVOKED", "Fraud", "2025-06-01T10:00:00")));
+        client.revocationBatches.add(List.of(
+                new RevokedCertificate("CERT-1", "ACTIVE", null, "2025-06-03T10:00:00")));
+
+        revocationSet.sync();
+        revocationSet.sync();
+
+        assertThat(client.revocationCursors).containsExactly(null, "2025-06-02T10:00:00");
+        assertThat(revocationSet.find("CERT-1")).isEmpty();
+        assertThat(revocationSet.find("CERT-2")).contains("Fraud");
+    }
+
+    @Test
+    void failedSyncKeepsKnownRevocationsAndCursor() {
+        client.revocationBatches.add(List.of(
+                new RevokedCertificate("CERT-1", "REVOKED", "Fraud", "2025-06-02T10:00:00")));
+
+        revocationSet.sync();
+        revocationSet.sync(); // No batch queued: the client throws
+        client.revocationBatches.add(List.of());
+        revocationSet.sync();
+
+        assertThat(revocationSet.find("CERT-1")).contains("Fraud");
+        assertThat(client.revocationCursors).containsExactly(null, "2025-06-02T10:00:00", "2025-06-02T10:00:00");
+    }
+
+    @Test
+    void statusSeenOnlineIsRecordedAheadOfTheNextSync() {
+        revocationSet.record("CERT-1", "revoked", "Withdrawn");
+        assertThat(revocationSet.find("CERT-1")).contains("Withdrawn");
+
+        revocationSet.record("CERT-1", "active", null);
+        assertThat(revocationSet.find("CERT-1")).isEmpty();
+        assertThat(revocationSet.find(null)).isEmpty();
+    }
+}
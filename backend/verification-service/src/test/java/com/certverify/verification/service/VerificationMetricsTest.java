@@ -0,0 +1,54 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.VerificationOutcome;
+import com.certverify.verification.model.VerificationResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every meter is registered when the component is created; recording only looks them up.
+ */
+class VerificationMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerificationMetrics metrics = new VerificationMetrics(meterRegistry);
+
+    @Test
+    void registersAllTimersUpFront() {
+        int outcomes = VerificationOutcome.values().length;
+
+        assertThat(meterRegistry.find("verification.duration").timers()).hasSize(3 * outcomes);
+        assertThat(meterRegistry.find(VerificationMetrics.STAGE_TIMER).timers()).hasSize(2);
+        assertThat(meterRegistry.find("verification.outcomes").counters()).hasSize(outcomes);
+    }
+
+    @Test
+    void recordingReusesTheRegisteredMeters() {
+        int meters = meterRegistry.getMeters().size();
+
+        for (int i = 0; i < 3; i++) {
+            metrics.recordCompletion(metrics.start(), "blocking", result(VerificationOutcome.VALID));
+            metrics.recordCompletion(metrics.start(), "token", result(VerificationOutcome.REVOKED));
+            metrics.recordCompletion(metrics.start(), "reactive", result(null));
+            metrics.recordFetch(metrics.start());
+            metrics.recordEvaluation(metrics.start());
+        }
+
+        assertThat(meterRegistry.getMeters()).hasSize(meters);
+        assertThat(timer("blocking", "valid").count()).isEqualTo(3);
+        assertThat(timer("token", "revoked").count()).isEqualTo(3);
+        assertThat(timer("reactive", "error").count()).isEqualTo(3);
+        assertThat(meterRegistry.get("verification.outcomes").tag("outcome", "error").counter().count()).isEqualTo(3);
+    }
+
+    private Timer timer(String path, String outcome) {
+        return meterRegistry.get("verification.duration").tag("path", path).tag("outcome", outcome).timer();
+    }
+
+    private static VerificationResult result(VerificationOutcome outcome) {
+        return VerificationResult.builder().valid(outcome == VerificationOutcome.VALID).outcome(outcome).build();
+    }
+}
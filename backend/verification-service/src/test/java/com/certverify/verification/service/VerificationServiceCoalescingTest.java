@@ -0,0 +1,118 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.VerificationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * N concurrent verifications of one certificate must cost one upstream call, on both the
+ * blocking and the reactive path, with the other N - 1 counted as coalesced.
+ *
+ * The stub holds each lookup long enough that every caller arrives while it is in flight.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coalescing;DB_CLOSE_DELAY=-1",
+        "verification.audit.enabled=false",
+        "verification.hedging.enabled=false"
+})
+class VerificationServiceCoalescingTest {
+
+    private static final int CALLERS = 50;
+
+    private static final CertificateServiceStub stub = new CertificateServiceStub();
+
+    @Autowired
+    private VerificationService verificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void stubUrls(DynamicPropertyRegistry registry) {
+        registry.add("services.certificate.url", stub::url);
+        registry.add("services.university.url", stub::url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        stub.reset();
+        stub.latency(1000);
+    }
+
+    @Test
+    void concurrentBlockingVerificationsShareOneFetch() throws Exception {
+        double coalescedBefore = coalesced("blocking");
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<VerificationResult>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return verificationService.verifyByCertificateNumber("CERT-VIRAL-BLOCKING");
+                }));
+            }
+            start.countDown();
+            for (Future<VerificationResult> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getValid()).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(stub.lookups()).isEqualTo(1);
+        assertThat(coalesced("blocking") - coalescedBefore).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void concurrentReactiveVerificationsShareOneFetch() {
+        double coalescedBefore = coalesced("reactive");
+
+        List<VerificationResult> results = Flux.range(0, CALLERS)
+                .flatMap(i -> verificationService.verifyByCertificateNumberAsync("CERT-VIRAL-REACTIVE"), CALLERS)
+                .collectList()
+                .block();
+
+        assertThat(results).hasSize(CALLERS).allMatch(VerificationResult::getValid);
+        assertThat(stub.lookups()).isEqualTo(1);
+        assertThat(coalesced("reactive") - coalescedBefore).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void laterVerificationsFetchAgainOnceTheFlightHasLanded() {
+        stub.latency(0);
+
+        verificationService.verifyByCertificateNumber("CERT-SEQUENTIAL");
+        verificationService.verifyByCertificateNumber("CERT-SEQUENTIAL");
+        verificationService.verifyByCertificateNumberAsync("CERT-SEQUENTIAL").block();
+
+        assertThat(stub.lookups()).isEqualTo(3);
+    }
+
+    private double coalesced(String path) {
+        return meterRegistry.get("verification.requests.coalesced").tag("path", path).counter().count();
+    }
+}
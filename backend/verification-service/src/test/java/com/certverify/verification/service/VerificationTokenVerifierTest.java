@@ -0,0 +1,119 @@
+package com.certverify.verification.service;
+
+import com.certverify.verification.model.TokenSigningKey;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Signed verification tokens are accepted only unmodified, unexpired and signed with a
+ * published issuer key.
+ */
+class VerificationTokenVerifierTest {
+
+    private static final String KEY_ID = "token-key-1";
+
+    private final FakeCertificateServiceClient client = new FakeCertificateServiceClient();
+    private KeyPair issuerKey;
+    private VerificationTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        issuerKey = generateKey();
+        client.tokenKeys = List.of(published(KEY_ID, issuerKey));
+        verifier = new VerificationTokenVerifier(client);
+        verifier.refreshKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    @Test
+    void acceptsTokenSignedWithPublishedKey() {
+        String token = token(KEY_ID, issuerKey, new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+
+        assertThat(verifier.verify(token).getSubject()).isEqualTo("CERT-2025-000001");
+        assertThat(verifier.verify(token).get("grd", String.class)).isEqualTo("A");
+    }
+
+    @Test
+    void rejectsTamperedClaims() {
+        String[] parts = token(KEY_ID, issuerKey, null).split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forged = payload.replace("\"grd\":\"A\"", "\"grd\":\"A+\"");
+        assertThat(forged).isNotEqualTo(payload);
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(forged.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThatThrownBy(() -> verifier.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKeyUnderAPublishedKid() throws Exception {
+        String forged = token(KEY_ID, generateKey(), null);
+
+        assertThatThrownBy(() -> verifier.verify(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String expired = token(KEY_ID, issuerKey, new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1)));
+
+        assertThatThrownBy(() -> verifier.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void rejectsUnknownKidUntilTheKeyIsPublished() throws Exception {
+        KeyPair rotated = generateKey();
+        String token = token("token-key-2", rotated, null);
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+
+        client.tokenKeys = List.of(published(KEY_ID, issuerKey), published("token-key-2", rotated));
+        verifier.refreshKeys();
+        assertThat(verifier.verify(token).getSubject()).isEqualTo("CERT-2025-000001");
+    }
+
+    private static String token(String keyId, KeyPair key, Date expiresAt) {
+        // Same header and claims certificate-service puts in an issued token
+        return Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setSubject("CERT-2025-000001")
+                .claim("uni", "UNI-2025-001")
+                .claim("stu", "STU-2025-001")
+                .claim("grd", "A")
+                .setIssuedAt(new Date())
+                .setExpiration(expiresAt)
+                .signWith(key.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+    }
+
+    private static TokenSigningKey published(String keyId, KeyPair key) {
+        return new TokenSigningKey(keyId, "ES256", Base64.getEncoder().encodeToString(key.getPublic().getEncoded()));
+    }
+
+    private static KeyPair generateKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+}